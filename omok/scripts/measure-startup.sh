@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# --------------------------------------------------------------------
+# 기동 시간 / RSS 비교
+#
+# 사용법 (omok 디렉터리에서, DB 접속 가능한 상태):
+#   ./gradlew cdsArchive
+#   scripts/measure-startup.sh [반복 횟수, 기본 5]
+#
+# 측정 모드 (모두 build/cds 에 extract 된 같은 jar 사용):
+#   default      : 기본 프로필 (ddl-auto=update, show-sql)
+#   prod         : prod 프로필
+#   prod+aot     : prod + spring.aot.enabled
+#   prod+aot+cds : prod + AOT + CDS 아카이브
+#
+# 측정 값:
+#   startup : "Started OmokApplication in X seconds" 로그
+#   rss     : 기동 직후 /proc/<pid>/status 의 VmRSS
+# --------------------------------------------------------------------
+set -euo pipefail
+
+RUNS="${1:-5}"
+CDS_DIR="$(cd "$(dirname "$0")/.." && pwd)/build/cds"
+JAR="$(ls "$CDS_DIR"/*.jar | head -n 1)"
+JAVA="${JAVA:-java}"
+LOG="$(mktemp)"
+
+trap 'rm -f "$LOG"' EXIT
+
+run_once() {
+    local mode="$1"
+    local opts=()
+
+    case "$mode" in
+        default)      opts=() ;;
+        prod)         opts=(-Dspring.profiles.active=prod) ;;
+        prod+aot)     opts=(-Dspring.profiles.active=prod -Dspring.aot.enabled=true) ;;
+        prod+aot+cds) opts=(-Dspring.profiles.active=prod -Dspring.aot.enabled=true
+                            -XX:SharedArchiveFile="$CDS_DIR/application.jsa") ;;
+    esac
+
+    (cd "$CDS_DIR" && exec "$JAVA" "${opts[@]}" -jar "$JAR") > "$LOG" 2>&1 &
+    local pid=$!
+
+    for _ in $(seq 1 600); do
+        grep -q 'Started OmokApplication' "$LOG" && break
+        kill -0 "$pid" 2>/dev/null || { cat "$LOG" >&2; exit 1; }
+        sleep 0.1
+    done
+
+    # 기동 직후 후속 작업(ApplicationReadyEvent 등) 이 끝날 때까지 잠시 대기
+    sleep 2
+
+    local startup rss
+    startup="$(grep -o 'Started OmokApplication in [0-9.]* seconds' "$LOG" | awk '{print $4}')"
+    rss="$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")"
+
+    kill -TERM "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    printf '%-14s %8s s %8d MB\n' "$mode" "$startup" "$((rss / 1024))"
+}
+
+for mode in default prod prod+aot prod+aot+cds; do
+    for _ in $(seq 1 "$RUNS"); do
+        run_once "$mode"
+    done
+done
@@ -0,0 +1,40 @@
+package com.stroke.omok.admin.controller;
+
+import com.stroke.omok.websocket.lobby.LobbyDrainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/lobby")
+@RequiredArgsConstructor
+public class LobbyAdminController {
+
+    private final LobbyDrainService lobbyDrainService;
+
+    // 배포 전에 미리 로비 drain 시작 (완료를 기다리지 않고 202 반환)
+    // 이후 프로세스 종료 시에는 진행 중인 drain 을 이어서 기다림
+    // 배포를 중단하면 DELETE 로 취소 (취소하지 않으면 재시작 전까지 신규 접속 거절)
+    @PostMapping("/drain")
+    public ResponseEntity<?> drain() {
+        lobbyDrainService.startDrain();
+        return ResponseEntity.accepted().body(Map.of("message", "DRAIN_STARTED"));
+    }
+
+    // drain 취소 (배포 중단) → 신규 접속 다시 허용
+    // drain 중이 아니거나 이미 종료 단계면 409
+    @DeleteMapping("/drain")
+    public ResponseEntity<?> cancelDrain() {
+
+        if (!lobbyDrainService.cancelDrain()) {
+            return ResponseEntity.status(409).body(Map.of("message", "NOT_DRAINING"));
+        }
+
+        return ResponseEntity.ok(Map.of("message", "DRAIN_CANCELLED"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.stroke.omok.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "lobby_chat_message")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    // --------------------------------------------------------------------
+    // ✔ 전송 시각
+    //
+    // @CreationTimestamp를 쓰지 않는 이유:
+    //  - 채팅은 비동기 배치로 저장되므로 INSERT 시점 != 실제 전송 시점
+    //  - 서버가 메시지를 받은 시각을 그대로 저장해야 기록 순서가 맞음
+    // --------------------------------------------------------------------
+    @Column(nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,7 @@
+package com.stroke.omok.chat.repository;
+
+import com.stroke.omok.chat.entity.ChatMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+}
@@ -0,0 +1,49 @@
+package com.stroke.omok.chat.repository;
+
+import com.stroke.omok.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * ----------------------------------------------------
+ * ChatMessageWriter
+ * ----------------------------------------------------
+ *
+ * 로비 채팅 기록 배치 저장소
+ *
+ * JPA saveAll()을 쓰지 않는 이유:
+ *  - id가 IDENTITY 전략 → Hibernate가 INSERT 배치를 끔 (행마다 INSERT 후 id 조회)
+ *  - 배치 500건 = DB 왕복 500번
+ *
+ * → JDBC batch 로 한 번에 전송 (id는 DB가 채움, 엔티티에 되돌려 쓰지 않음)
+ *
+ * 트랜잭션:
+ *  - 배치 중간에 실패하면 전체 롤백 → 호출 측이 배치 전체를 재시도해도 중복 INSERT 없음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO lobby_chat_message (user_id, username, content, sent_at) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<ChatMessage> messages) {
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(),
+                (ps, m) -> {
+                    ps.setLong(1, m.getUserId());
+                    ps.setString(2, m.getUsername());
+                    ps.setString(3, m.getContent());
+                    ps.setTimestamp(4, Timestamp.valueOf(m.getSentAt()));
+                });
+    }
+}
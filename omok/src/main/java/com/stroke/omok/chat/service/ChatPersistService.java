@@ -0,0 +1,117 @@
+package com.stroke.omok.chat.service;
+
+import com.stroke.omok.chat.entity.ChatMessage;
+import com.stroke.omok.chat.repository.ChatMessageWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * ----------------------------------------------------
+ * ChatPersistService
+ * ----------------------------------------------------
+ *
+ * 역할:
+ *  - 로비 채팅 기록을 MySQL에 "비동기 + 배치"로 저장
+ *
+ * 구조:
+ *  - 브로드캐스트 스레드는 enqueue()만 호출 (offer → 절대 블로킹 X)
+ *  - 스케줄러 스레드가 주기적으로 큐를 비우며 JDBC batch INSERT (ChatMessageWriter)
+ *
+ * 큐가 가득 찬 경우(DB 장애 등):
+ *  - 채팅 전송은 계속되어야 하므로 저장만 포기하고 경고 로그
+ *
+ * 저장 실패 시:
+ *  - 꺼낸 배치를 큐에 다시 넣고 다음 flush에서 재시도 (큐 크기 한도 내)
+ *  - 순서는 sentAt 컬럼으로 보존되므로 재삽입 위치는 상관없음
+ */
+@Service
+@Slf4j
+public class ChatPersistService {
+
+    private final ChatMessageWriter chatMessageWriter;
+
+    private final BlockingQueue<ChatMessage> queue;
+
+    /**
+     * 한 번의 flush에서 저장할 최대 메시지 수
+     */
+    private final int batchSize;
+
+    public ChatPersistService(
+            ChatMessageWriter chatMessageWriter,
+            @Value("${omok.lobby.chat.persist-queue-size:10000}") int queueSize,
+            @Value("${omok.lobby.chat.persist-batch-size:500}") int batchSize) {
+
+        this.chatMessageWriter = chatMessageWriter;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+    }
+
+    // ----------------------------------------------------
+    // 저장 요청 (호출 스레드는 대기하지 않음)
+    // ----------------------------------------------------
+    public void enqueue(ChatMessage message) {
+
+        if (!queue.offer(message)) {
+            log.warn("[CHAT] persist queue full - message dropped, userId={}",
+                    message.getUserId());
+        }
+    }
+
+    // ----------------------------------------------------
+    // 주기적 배치 저장
+    // ----------------------------------------------------
+    @Scheduled(fixedDelayString = "${omok.lobby.chat.persist-interval-ms:1000}")
+    public void flush() {
+
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                chatMessageWriter.insertAll(batch);
+            } catch (Exception e) {
+                int dropped = requeue(batch);
+                log.error("[CHAT] persist error - {} messages requeued, {} dropped",
+                        batch.size() - dropped, dropped, e);
+
+                // DB 장애 중에는 남은 큐도 실패할 가능성이 높으므로 다음 flush로 미룸
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 실패한 배치를 큐에 다시 넣음
+     *
+     * 반환: 큐가 가득 차서 버린 메시지 수
+     */
+    private int requeue(List<ChatMessage> batch) {
+
+        int dropped = 0;
+
+        for (ChatMessage message : batch) {
+            if (!queue.offer(message)) {
+                dropped++;
+            }
+        }
+
+        return dropped;
+    }
+
+    // ----------------------------------------------------
+    // 종료 시 남은 기록 저장
+    // ----------------------------------------------------
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
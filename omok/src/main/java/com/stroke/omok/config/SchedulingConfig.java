@@ -0,0 +1,35 @@
+package com.stroke.omok.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // ---------------------------------------------------------------------
+    // @Scheduled 작업 전용 스케줄러
+    //
+    // 기본 스케줄러는 스레드 1개 → 모든 @Scheduled 작업이 줄을 서서 실행됨
+    // - 로비 브로드캐스트 tick
+    // - DB 비동기 저장(flush)
+    //
+    // 스레드가 1개면 MySQL 저장이 느려질 때 브로드캐스트 tick까지 밀린다.
+    // 따라서 풀 크기를 늘려 DB 작업이 브로드캐스트를 막지 않도록 분리
+    // ---------------------------------------------------------------------
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("omok-tick-");
+
+        // 종료 시 진행 중인 flush 작업이 끝날 때까지 대기
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+
+        return scheduler;
+    }
+}
@@ -1,12 +1,15 @@
 package com.stroke.omok.config;
 
 import com.stroke.omok.user.security.CustomUserDetailsService;
+import com.stroke.omok.user.security.LobbyResumeAuthenticationFilter;
+import com.stroke.omok.websocket.lobby.LobbyResumeTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.*;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.*;
 import org.springframework.security.crypto.bcrypt.*;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @RequiredArgsConstructor
@@ -18,6 +21,11 @@ public class SecurityConfig {
     // ---------------------------------------------------------------------
     private final CustomUserDetailsService customUserDetailsService;
 
+    // ---------------------------------------------------------------------
+    // 배포 drain 후 로비 재접속 시 resume 토큰 검증 (DB 조회 없이 인증 복원)
+    // ---------------------------------------------------------------------
+    private final LobbyResumeTokenService lobbyResumeTokenService;
+
     // ---------------------------------------------------------------------
     // BCryptPasswordEncoder: 비밀번호 암호화 용도
     // Boot 2.5.4 시절에는 WebSecurityConfigurerAdapter 안에서 선언하는 경우가 많았음
@@ -92,6 +100,14 @@ public class SecurityConfig {
                 // -----------------------------------------------------------------
                 .authenticationProvider(authProvider())
 
+                // -----------------------------------------------------------------
+                // /ws/lobby?resume={token} → 세션이 없어도 토큰으로 인증
+                // 인가(AuthorizationFilter) 전에 인증 정보가 채워져야 하므로 앞쪽에 배치
+                // -----------------------------------------------------------------
+                .addFilterBefore(
+                        new LobbyResumeAuthenticationFilter(lobbyResumeTokenService),
+                        UsernamePasswordAuthenticationFilter.class)
+
                 // -----------------------------------------------------------------
                 // URL 권한 설정: 어떤 URL에 인증이 필요한지
                 // WebSocket 경로(/ws/**)는 인증 필요
@@ -100,6 +116,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/login", "/auth/register").permitAll()
                         .requestMatchers("/auth/me").authenticated()     // 로그인된 사용자만 호출 가능하도록 수정
+                        .requestMatchers("/leaderboard/me").authenticated()
+                        .requestMatchers("/admin/**").hasRole("ADMIN")   // 운영 작업 (로비 drain 등)
                         .requestMatchers("/ws/**").authenticated()
                         .anyRequest().permitAll()
                 )
@@ -1,5 +1,6 @@
 package com.stroke.omok.config;
 
+import com.stroke.omok.websocket.lobby.LobbyHandshakeInterceptor;
 import com.stroke.omok.websocket.lobby.LobbyWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,9 @@ public class WebSocketConfig implements WebSocketConfigurer {
     // ---------------------------------------------------------
     private final LobbyWebSocketHandler lobbyWebSocketHandler;
 
+    // drain 중 handshake 거절 + resume 재접속 표시
+    private final LobbyHandshakeInterceptor lobbyHandshakeInterceptor;
+
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
 
@@ -35,6 +39,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
         // Echo 테스트용 /ws/echo 는 Day 3부터 제거
         // ---------------------------------------------------------
         registry.addHandler(lobbyWebSocketHandler, "/ws/lobby")
+                .addInterceptors(lobbyHandshakeInterceptor)
                 .setAllowedOrigins("*"); // 개발 단계이므로 전체 허용
     }
 }
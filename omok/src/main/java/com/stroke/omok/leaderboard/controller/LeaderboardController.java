@@ -0,0 +1,57 @@
+package com.stroke.omok.leaderboard.controller;
+
+import com.stroke.omok.leaderboard.service.LeaderboardIndex;
+import com.stroke.omok.leaderboard.service.LeaderboardService;
+import com.stroke.omok.user.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    // 상위 100명 - 미리 직렬화된 JSON 그대로 반환 (요청마다 정렬/직렬화 X)
+    @GetMapping
+    public ResponseEntity<byte[]> top() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(leaderboardService.topPage());
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<?> me(Authentication authentication) {
+
+        if (authentication == null ||
+                !authentication.isAuthenticated() ||
+                authentication.getPrincipal().equals("anonymousUser")) {
+            return ResponseEntity.status(401).body(Map.of("message", "UNAUTHORIZED"));
+        }
+
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+        LeaderboardIndex.Ranked ranked = leaderboardService.rankOf(user.getUserId());
+
+        // 아직 한 판도 하지 않은 유저는 순위 없음
+        if (ranked == null) {
+            return ResponseEntity.ok(Map.of("userId", user.getUserId(), "ranked", false));
+        }
+
+        return ResponseEntity.ok(
+                Map.of(
+                        "userId", ranked.userId(),
+                        "ranked", true,
+                        "rank", ranked.rank(),
+                        "rating", ranked.rating()
+                )
+        );
+    }
+}
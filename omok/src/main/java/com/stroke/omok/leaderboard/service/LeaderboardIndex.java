@@ -0,0 +1,323 @@
+package com.stroke.omok.leaderboard.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ----------------------------------------------------
+ * LeaderboardIndex
+ * ----------------------------------------------------
+ *
+ * 레이팅 순위 인덱스 (메모리)
+ *
+ *  - Fenwick tree (레이팅 구간별 인원 수)
+ *      → "내 순위" = 나보다 레이팅이 높은 인원 + 1, O(log B)
+ *  - TreeSet (레이팅 내림차순 정렬)
+ *      → 상위 K명 조회 O(log n + K)
+ *
+ * 레이팅이 바뀔 때마다 두 구조 모두 증분 갱신 (전체 재정렬 X)
+ *
+ * 동점자는 같은 순위 (1, 2, 2, 4 ...)
+ *
+ * 버킷 구성:
+ *  - [MIN_RATING, MAX_RATING] 는 레이팅 1점당 버킷 1개 (정확한 순위)
+ *  - 범위를 벗어난 레이팅은 위/아래 overflow 버킷에 모임
+ *    → 같은 overflow 버킷 안의 순위는 TreeSet 으로 보정 (범위 밖 유저는 극소수)
+ *
+ * 동시성:
+ *  - 조회(rankOf, top)는 read lock 으로 동시에 수행
+ *  - 갱신은 write lock, 작업량 O(log n + log B)
+ */
+public class LeaderboardIndex {
+
+    static final int MIN_RATING = 0;
+    static final int MAX_RATING = 4000;
+
+    private static final int TOP_OVERFLOW = 0;
+    private static final int BUCKETS = (MAX_RATING - MIN_RATING + 1) + 2;
+    private static final int BOTTOM_OVERFLOW = BUCKETS - 1;
+
+    private static final Comparator<Ranked> ORDER =
+            Comparator.comparingInt(Ranked::rating).reversed()
+                    .thenComparing(Ranked::userId);
+
+    /**
+     * Fenwick tree (1-based)
+     * 버킷 0 = 최고 레이팅 → prefix sum = "더 높은 레이팅" 인원 수
+     */
+    private final int[] tree = new int[BUCKETS + 1];
+
+    private final Map<Long, Integer> ratings = new HashMap<>();
+
+    /**
+     * 유저별 마지막으로 반영한 레이팅 version (늦게 도착한 이전 변경 무시)
+     */
+    private final Map<Long, Long> versions = new HashMap<>();
+
+    private final TreeSet<Ranked> ordered = new TreeSet<>(ORDER);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 캐시 무효화 판단 기준이 되는 상위 페이지 크기
+     */
+    private final int pageSize;
+
+    public LeaderboardIndex(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 순위표 한 줄
+     */
+    public record Ranked(Long userId, int rating, int rank) {
+    }
+
+    // ----------------------------------------------------
+    // 레이팅 반영
+    //
+    // version 이 이미 반영된 값 이하이면 무시 (알림 순서 역전 대비)
+    //
+    // 반환: 상위 pageSize 페이지 내용이 바뀌었을 수 있으면 true
+    //      → 호출 측에서 캐시 무효화
+    // ----------------------------------------------------
+    public boolean update(Long userId, int rating, long version) {
+
+        lock.writeLock().lock();
+
+        try {
+            Long applied = versions.get(userId);
+
+            if (applied != null && applied >= version) {
+                return false;
+            }
+
+            versions.put(userId, version);
+
+            int threshold = pageThreshold();
+            Integer previous = ratings.put(userId, rating);
+
+            if (previous != null) {
+                if (previous == rating) {
+                    return false;
+                }
+
+                ordered.remove(new Ranked(userId, previous, 0));
+                add(bucket(previous), -1);
+            }
+
+            ordered.add(new Ranked(userId, rating, 0));
+            add(bucket(rating), 1);
+
+            return rating >= threshold || (previous != null && previous >= threshold);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 기동 시 초기 적재 (이미 들어온 값은 덮어쓰지 않음)
+    // ----------------------------------------------------
+    public void load(Long userId, int rating) {
+
+        lock.writeLock().lock();
+
+        try {
+            if (ratings.containsKey(userId)) {
+                return;
+            }
+
+            ratings.put(userId, rating);
+            versions.put(userId, 0L);
+            ordered.add(new Ranked(userId, rating, 0));
+            add(bucket(rating), 1);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 내 순위 (순위표에 없으면 null)
+    // ----------------------------------------------------
+    public Ranked rankOf(Long userId) {
+
+        lock.readLock().lock();
+
+        try {
+            Integer rating = ratings.get(userId);
+
+            if (rating == null) {
+                return null;
+            }
+
+            return new Ranked(userId, rating, countAbove(rating) + 1);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 상위 limit명
+    // ----------------------------------------------------
+    public List<Ranked> top(int limit) {
+
+        lock.readLock().lock();
+
+        try {
+            List<Ranked> result = new ArrayList<>(Math.min(limit, ordered.size()));
+            Iterator<Ranked> it = ordered.iterator();
+
+            int position = 0;
+            int rank = 0;
+            int lastRating = Integer.MIN_VALUE;
+
+            while (it.hasNext() && position < limit) {
+                Ranked r = it.next();
+                position++;
+
+                if (r.rating() != lastRating) {
+                    rank = position;
+                    lastRating = r.rating();
+                }
+
+                result.add(new Ranked(r.userId(), r.rating(), rank));
+            }
+
+            return result;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+
+        try {
+            return ratings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 페이지 마지막 사람의 레이팅
+     * (페이지가 다 차지 않았으면 어떤 변경이든 페이지에 영향)
+     *
+     * Fenwick tree 에서 pageSize 번째 사람이 속한 버킷을 O(log B) 로 찾음
+     */
+    private int pageThreshold() {
+
+        if (ordered.size() < pageSize) {
+            return Integer.MIN_VALUE;
+        }
+
+        int bucket = bucketOfOrder(pageSize);
+
+        if (bucket != TOP_OVERFLOW && bucket != BOTTOM_OVERFLOW) {
+            return MAX_RATING - (bucket - 1);
+        }
+
+        // overflow 버킷은 레이팅이 섞여 있으므로 직접 순회 (드문 경우)
+        Iterator<Ranked> it = ordered.iterator();
+        Ranked last = null;
+
+        for (int i = 0; i < pageSize; i++) {
+            last = it.next();
+        }
+
+        return last.rating();
+    }
+
+    /**
+     * 나보다 레이팅이 높은 인원 수
+     */
+    private int countAbove(int rating) {
+
+        int bucket = bucket(rating);
+        int above = prefixSum(bucket);
+
+        if (bucket == TOP_OVERFLOW) {
+            // 나보다 높은 사람은 모두 같은 overflow 버킷
+            above += ordered.headSet(probe(rating)).size();
+        } else if (bucket == BOTTOM_OVERFLOW) {
+            // 같은 overflow 버킷 중 (rating, MIN_RATING) 구간
+            above += ordered.subSet(probe(MIN_RATING - 1), true, probe(rating), false).size();
+        }
+
+        return above;
+    }
+
+    /**
+     * 해당 레이팅에서 정렬상 가장 앞에 오는 가상의 원소
+     */
+    private static Ranked probe(int rating) {
+        return new Ranked(Long.MIN_VALUE, rating, 0);
+    }
+
+    /**
+     * 레이팅 → 버킷 (높은 레이팅일수록 앞쪽, 범위 밖은 overflow 버킷)
+     */
+    private static int bucket(int rating) {
+
+        if (rating > MAX_RATING) {
+            return TOP_OVERFLOW;
+        }
+
+        if (rating < MIN_RATING) {
+            return BOTTOM_OVERFLOW;
+        }
+
+        return 1 + (MAX_RATING - rating);
+    }
+
+    // ---------------- Fenwick tree ----------------
+
+    private void add(int bucket, int delta) {
+        for (int i = bucket + 1; i <= BUCKETS; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * 버킷 [0, bucket) 합계 = 해당 버킷보다 높은 인원 수
+     */
+    private int prefixSum(int bucket) {
+        int sum = 0;
+        for (int i = bucket; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 누적 인원이 처음으로 order 이상이 되는 버킷 (order 는 1부터)
+     */
+    private int bucketOfOrder(int order) {
+
+        int position = 0;
+        int remaining = order;
+
+        for (int step = Integer.highestOneBit(BUCKETS); step > 0; step >>= 1) {
+            int next = position + step;
+
+            if (next <= BUCKETS && tree[next] < remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+
+        return position;
+    }
+}
@@ -0,0 +1,151 @@
+package com.stroke.omok.leaderboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stroke.omok.rating.repository.UserStatsRepository;
+import com.stroke.omok.rating.service.RatingSnapshot;
+import com.stroke.omok.user.entity.User;
+import com.stroke.omok.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * ----------------------------------------------------
+ * LeaderboardService
+ * ----------------------------------------------------
+ *
+ * 역할:
+ *  - 리더보드 조회 시 매번 ORDER BY rating LIMIT 쿼리를 날리지 않도록
+ *    메모리 인덱스(LeaderboardIndex)에서 순위 계산
+ *  - 상위 페이지 응답은 JSON 바이트로 미리 직렬화해 캐시
+ *
+ * 캐시 무효화:
+ *  - 레이팅 변경이 상위 페이지에 영향을 줄 수 있을 때만 비움
+ *  - 다음 조회 시 한 번만 다시 직렬화 (유저명 조회 쿼리 1회 포함)
+ *
+ * version:
+ *  - 무효화마다 증가, 캐시는 "렌더링을 시작한 시점의 version" 과 함께 저장
+ *  - 렌더링 도중 변경이 들어오면 캐시 version 이 뒤처져 다음 조회에서 다시 렌더링
+ *    → 무효화가 렌더링과 겹쳐도 오래된 페이지가 계속 남지 않음
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+    public static final int TOP_SIZE = 100;
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserRepository userRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LeaderboardIndex index = new LeaderboardIndex(TOP_SIZE);
+
+    /**
+     * 상위 페이지 내용 version (상위 페이지에 영향을 주는 변경마다 증가)
+     */
+    private final AtomicLong pageVersion = new AtomicLong();
+
+    /**
+     * 미리 직렬화된 상위 페이지
+     */
+    private volatile CachedPage topPageCache;
+
+    private record CachedPage(long version, byte[] body) {
+    }
+
+    public LeaderboardService(UserStatsRepository userStatsRepository,
+                              UserRepository userRepository) {
+        this.userStatsRepository = userStatsRepository;
+        this.userRepository = userRepository;
+    }
+
+    // ----------------------------------------------------
+    // 기동 시 인덱스 적재 (user_stats 전체를 한 번만 조회)
+    // ----------------------------------------------------
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+
+        for (RatingSnapshot s : userStatsRepository.findAllSnapshots()) {
+            index.load(s.userId(), s.rating());
+        }
+
+        pageVersion.incrementAndGet();
+        log.info("[LEADERBOARD] loaded {} users", index.size());
+    }
+
+    // ----------------------------------------------------
+    // 레이팅 변경 반영 (RatingStore 에서 lock 밖에서 호출)
+    // ----------------------------------------------------
+    public void onRatingChanged(RatingSnapshot snapshot, long version) {
+
+        if (index.update(snapshot.userId(), snapshot.rating(), version)) {
+            pageVersion.incrementAndGet();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 상위 페이지 (캐시된 JSON)
+    // ----------------------------------------------------
+    public byte[] topPage() {
+
+        CachedPage cached = topPageCache;
+
+        if (cached != null && cached.version() == pageVersion.get()) {
+            return cached.body();
+        }
+
+        // 동시에 여러 요청이 다시 렌더링하지 않도록 직렬화
+        synchronized (this) {
+            long version = pageVersion.get();
+            cached = topPageCache;
+
+            if (cached != null && cached.version() == version) {
+                return cached.body();
+            }
+
+            byte[] body = renderTopPage();
+            topPageCache = new CachedPage(version, body);
+
+            return body;
+        }
+    }
+
+    public LeaderboardIndex.Ranked rankOf(Long userId) {
+        return index.rankOf(userId);
+    }
+
+    private byte[] renderTopPage() {
+
+        List<LeaderboardIndex.Ranked> top = index.top(TOP_SIZE);
+
+        Map<Long, String> usernames = userRepository
+                .findAllById(top.stream().map(LeaderboardIndex.Ranked::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getUsername));
+
+        List<Map<String, Object>> rows = top.stream()
+                .map(r -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("rank", r.rank());
+                    row.put("userId", r.userId());
+                    row.put("username", usernames.get(r.userId()));
+                    row.put("rating", r.rating());
+                    return row;
+                })
+                .toList();
+
+        try {
+            return objectMapper.writeValueAsBytes(rows);
+        } catch (Exception e) {
+            throw new IllegalStateException("leaderboard serialize error", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.stroke.omok.rating.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStats {
+
+    // --------------------------------------------------------------------
+    // ✔ User 테이블과 분리한 이유
+    // - 레이팅/전적은 게임이 끝날 때마다 갱신됨 (쓰기 빈도 높음)
+    // - 로그인 시 조회되는 user 행을 자주 UPDATE 하면 락 경합 발생
+    // - user.id를 그대로 PK로 사용 (1:1)
+    // --------------------------------------------------------------------
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private int rating;
+
+    @Column(nullable = false)
+    private int wins;
+
+    @Column(nullable = false)
+    private int losses;
+
+    @Column(nullable = false)
+    private int draws;
+
+    // --------------------------------------------------------------------
+    // ✔ 행 version
+    // - flush(UserStatsWriter)가 행을 갱신할 때마다 1 증가
+    // - 여러 노드의 기록이 섞였는지 판단하는 용도 (JPA @Version 아님)
+    // --------------------------------------------------------------------
+    @Column(nullable = false)
+    private long version;
+
+    @Column(columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.stroke.omok.rating.repository;
+
+import com.stroke.omok.rating.entity.UserStats;
+import com.stroke.omok.rating.service.RatingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    // 리더보드 초기 적재용 - 엔티티 대신 스냅샷으로 바로 조회 (영속성 컨텍스트 적재 X)
+    @Query("select new com.stroke.omok.rating.service.RatingSnapshot(" +
+            "s.userId, s.rating, s.wins, s.losses, s.draws) from UserStats s")
+    List<RatingSnapshot> findAllSnapshots();
+}
@@ -0,0 +1,104 @@
+package com.stroke.omok.rating.repository;
+
+import com.stroke.omok.rating.service.RatingDelta;
+import com.stroke.omok.rating.service.RatingSnapshot;
+import com.stroke.omok.rating.service.StoredRating;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ----------------------------------------------------
+ * UserStatsWriter
+ * ----------------------------------------------------
+ *
+ * 레이팅 write-behind 전용 배치 저장소
+ *
+ * JPA save()를 쓰지 않는 이유:
+ *  - PK를 직접 지정하는 엔티티 → save() 시 merge (SELECT 후 UPDATE)
+ *  - flush 마다 유저 수 × 2 쿼리 발생
+ *
+ * → JDBC batch + MySQL UPSERT 로 유저당 1 statement
+ *
+ * 증가분 기록:
+ *  - 여러 로비 노드가 같은 유저를 갱신할 수 있으므로 절대값 대신 "+ 변경량"
+ *  - 행이 없을 때만 INSERT 값(현재 절대값) 사용
+ *  - 갱신할 때마다 version + 1 → 기록 후 다시 읽어 다른 노드의 기록 여부 확인
+ *
+ * 트랜잭션:
+ *  - 배치 중간 실패 시 전체 롤백 → 같은 증가분을 재시도해도 두 번 더해지지 않음
+ *  - 갱신한 행은 커밋 전까지 lock → 읽어온 값은 이 배치 직후의 값
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserStatsWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_stats (user_id, rating, wins, losses, draws, version, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 1, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "rating = rating + ?, wins = wins + ?, losses = losses + ?, draws = draws + ?, " +
+            "version = version + 1, updated_at = VALUES(updated_at)";
+
+    private static final String SELECT_SQL =
+            "SELECT user_id, rating, wins, losses, draws, version FROM user_stats WHERE user_id IN (%s)";
+
+    private static final int SELECT_CHUNK = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // ----------------------------------------------------
+    // 증가분 기록 후 기록된 행을 다시 읽어 반환 (key = userId)
+    // ----------------------------------------------------
+    @Transactional
+    public Map<Long, StoredRating> applyAll(List<RatingDelta> deltas) {
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(),
+                (ps, d) -> {
+                    RatingSnapshot current = d.current();
+
+                    ps.setLong(1, d.userId());
+                    ps.setInt(2, current.rating());
+                    ps.setInt(3, current.wins());
+                    ps.setInt(4, current.losses());
+                    ps.setInt(5, current.draws());
+
+                    ps.setInt(6, d.rating());
+                    ps.setInt(7, d.wins());
+                    ps.setInt(8, d.losses());
+                    ps.setInt(9, d.draws());
+                });
+
+        Map<Long, StoredRating> stored = new HashMap<>(deltas.size() * 2);
+
+        // IN 절 placeholder 수 제한 → 나눠서 조회
+        for (int from = 0; from < deltas.size(); from += SELECT_CHUNK) {
+            List<RatingDelta> chunk = deltas.subList(from, Math.min(from + SELECT_CHUNK, deltas.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            jdbcTemplate.query(
+                    String.format(SELECT_SQL, placeholders),
+                    rs -> {
+                        Long userId = rs.getLong("user_id");
+
+                        stored.put(userId, new StoredRating(
+                                new RatingSnapshot(
+                                        userId,
+                                        rs.getInt("rating"),
+                                        rs.getInt("wins"),
+                                        rs.getInt("losses"),
+                                        rs.getInt("draws")),
+                                rs.getLong("version")));
+                    },
+                    chunk.stream().map(RatingDelta::userId).toArray());
+        }
+
+        return stored;
+    }
+}
@@ -0,0 +1,7 @@
+package com.stroke.omok.rating.service;
+
+public enum GameOutcome {
+    FIRST_WIN,   // 첫 번째 플레이어 승리
+    SECOND_WIN,  // 두 번째 플레이어 승리
+    DRAW         // 무승부
+}
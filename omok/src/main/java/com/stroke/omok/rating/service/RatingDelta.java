@@ -0,0 +1,18 @@
+package com.stroke.omok.rating.service;
+
+/**
+ * flush 단위 - 마지막으로 DB 에 반영된 값 이후의 변경량
+ *
+ * - DB 에는 절대값이 아니라 증가분으로 기록 (wins = wins + ?)
+ *   → 여러 노드가 같은 유저를 갱신해도 서로의 결과를 덮어쓰지 않음
+ * - current 는 행이 아직 없을 때 INSERT 할 값
+ * - baseVersion 은 이 노드가 마지막으로 본 DB 행 version
+ */
+public record RatingDelta(Long userId,
+                          int rating,
+                          int wins,
+                          int losses,
+                          int draws,
+                          long baseVersion,
+                          RatingSnapshot current) {
+}
@@ -0,0 +1,13 @@
+package com.stroke.omok.rating.service;
+
+/**
+ * 레이팅 변경 알림 (리더보드 인덱스 등)
+ *
+ * - RatingStore 의 lock 밖에서 호출되므로 같은 유저의 알림이 뒤바뀌어 도착할 수 있음
+ * - version 은 유저별로 단조 증가 → 수신 측은 이미 받은 version 이하를 무시
+ */
+@FunctionalInterface
+public interface RatingListener {
+
+    void onRatingChanged(RatingSnapshot snapshot, long version);
+}
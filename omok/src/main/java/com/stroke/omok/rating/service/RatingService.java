@@ -0,0 +1,108 @@
+package com.stroke.omok.rating.service;
+
+import com.stroke.omok.leaderboard.service.LeaderboardService;
+import com.stroke.omok.rating.repository.UserStatsRepository;
+import com.stroke.omok.rating.repository.UserStatsWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ----------------------------------------------------
+ * RatingService
+ * ----------------------------------------------------
+ *
+ * 역할:
+ *  - 게임 종료 시 레이팅/전적을 메모리(RatingStore)에 즉시 반영
+ *  - 변경분은 주기적으로 MySQL에 write-behind (유저당 1 UPSERT / flush 구간)
+ *  - 변경된 레이팅은 리더보드 인덱스에 즉시 증분 반영
+ *
+ * 기동 시:
+ *  - 전체 로딩 X
+ *  - 처음 조회되는 유저만 DB에서 읽어옴 (lazy warm-up)
+ *
+ * 여러 로비 노드:
+ *  - 노드마다 자기 메모리 값을 가짐 (같은 유저가 여러 노드에서 게임 가능)
+ *  - DB 에는 증가분만 더하므로 어느 노드의 flush 도 다른 노드의 결과를 지우지 않음
+ *  - flush 후 DB 행을 다시 읽어 메모리 값을 맞춤 → 다른 노드의 결과는 다음 flush 이후 반영
+ *
+ * 장애 시 유실 범위:
+ *  - DB에는 "마지막으로 성공한 flush" 시점의 값이 남아 있음
+ *  - 비정상 종료 시 최대 flush 주기 동안의 결과가 유실될 수 있음
+ *  - 정상 종료(@PreDestroy) 시에는 남은 변경분을 모두 기록
+ */
+@Service
+@Slf4j
+public class RatingService {
+
+    private final UserStatsWriter userStatsWriter;
+
+    private final RatingStore store;
+
+    public RatingService(UserStatsRepository userStatsRepository,
+                         UserStatsWriter userStatsWriter,
+                         LeaderboardService leaderboardService) {
+
+        this.userStatsWriter = userStatsWriter;
+        this.store = new RatingStore(userId ->
+                userStatsRepository.findById(userId)
+                        .map(s -> new StoredRating(
+                                new RatingSnapshot(
+                                        s.getUserId(), s.getRating(),
+                                        s.getWins(), s.getLosses(), s.getDraws()),
+                                s.getVersion()))
+                        .orElseGet(() -> StoredRating.initial(userId)),
+                leaderboardService::onRatingChanged);
+    }
+
+    public RatingSnapshot getRating(Long userId) {
+        return store.get(userId);
+    }
+
+    // ----------------------------------------------------
+    // 게임 종료 처리 (메모리만 갱신)
+    // - 처음 보는 유저는 이 시점에 findById 로 lazy 로딩 (유저당 최초 1회)
+    // - DB 쓰기는 flush 에서만 수행
+    // ----------------------------------------------------
+    public RatingSnapshot[] recordGame(Long firstId, Long secondId, GameOutcome outcome) {
+        return store.recordGame(firstId, secondId, outcome);
+    }
+
+    // ----------------------------------------------------
+    // write-behind flush
+    // ----------------------------------------------------
+    @Scheduled(fixedDelayString = "${omok.rating.flush-interval-ms:5000}")
+    public void flush() {
+
+        List<RatingDelta> batch = store.drainDirty();
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, StoredRating> stored;
+
+        try {
+            stored = userStatsWriter.applyAll(batch);
+
+        } catch (Exception e) {
+            // 실패한 유저는 다시 dirty 처리 → 다음 flush에서 최신 증가분으로 재시도 (트랜잭션 롤백 → 중복 반영 X)
+            store.markDirty(batch.stream().map(RatingDelta::userId).toList());
+            log.error("[RATING] flush error - {} users requeued", batch.size(), e);
+            return;
+        }
+
+        int conflicts = store.rebase(batch, stored);
+
+        log.debug("[RATING] flushed {} users ({} merged with other nodes)", batch.size(), conflicts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
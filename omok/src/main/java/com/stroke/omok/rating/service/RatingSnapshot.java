@@ -0,0 +1,16 @@
+package com.stroke.omok.rating.service;
+
+/**
+ * 특정 시점의 유저 레이팅/전적 (불변)
+ *
+ * - 조회 / 리더보드 알림 단위
+ * - DB 에는 이전 기록 이후의 증가분(RatingDelta)으로 기록됨
+ */
+public record RatingSnapshot(Long userId, int rating, int wins, int losses, int draws) {
+
+    public static final int INITIAL_RATING = 1200;
+
+    public static RatingSnapshot initial(Long userId) {
+        return new RatingSnapshot(userId, INITIAL_RATING, 0, 0, 0);
+    }
+}
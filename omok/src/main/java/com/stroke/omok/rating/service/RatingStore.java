@@ -0,0 +1,309 @@
+package com.stroke.omok.rating.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ----------------------------------------------------
+ * RatingStore
+ * ----------------------------------------------------
+ *
+ * 역할:
+ *  - 유저 레이팅/전적을 메모리에 보관하고 게임 종료 시 즉시 갱신
+ *  - 변경된 유저 id만 dirty 집합에 모아둠 (write-behind)
+ *
+ * 병합(coalescing):
+ *  - dirty는 "집합"이므로 한 flush 구간 동안 여러 판을 해도 유저당 1건
+ *  - flush 는 마지막으로 DB 에 반영된 값(base) 이후의 증가분(RatingDelta)을 기록
+ *
+ * 여러 노드:
+ *  - 같은 유저가 노드 A, B 에서 번갈아 게임하면 각 노드의 메모리 값은 서로 모름
+ *  - 증가분으로 기록하므로 어느 쪽 flush 도 다른 노드의 결과를 덮어쓰지 않음
+ *  - flush 후 읽어온 DB 행(version)으로 base 를 다시 맞춤 (rebase)
+ *    → 다른 노드의 기록이 있었다면 이후 레이팅 계산은 합쳐진 값 기준
+ *
+ * Spring / DB 의존성 없음 → 단위 테스트 및 부하 측정 용이
+ */
+public class RatingStore {
+
+    /**
+     * ELO K-factor (레이팅 변동 폭)
+     */
+    static final int K_FACTOR = 32;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 메모리에 없는 유저를 처음 조회할 때만 호출 (lazy warm-up)
+     */
+    private final Function<Long, StoredRating> loader;
+
+    /**
+     * 레이팅이 바뀔 때마다 호출 (리더보드 인덱스 등)
+     *
+     * 엔트리 lock 을 푼 뒤 호출 → 리스너의 lock 이 게임 종료 처리를 붙잡지 않음
+     * 순서 보장은 유저별 version 으로 수신 측에서 처리
+     */
+    private final RatingListener listener;
+
+    public RatingStore(Function<Long, StoredRating> loader) {
+        this(loader, (snapshot, version) -> { });
+    }
+
+    public RatingStore(Function<Long, StoredRating> loader,
+                       RatingListener listener) {
+        this.loader = loader;
+        this.listener = listener;
+    }
+
+    // ----------------------------------------------------
+    // 조회
+    // ----------------------------------------------------
+    public RatingSnapshot get(Long userId) {
+
+        Entry entry = entry(userId);
+
+        synchronized (entry) {
+            return entry.snapshot();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 게임 결과 반영
+    //
+    // 두 유저를 함께 갱신해야 하므로 두 엔트리 모두 lock
+    // 데드락 방지를 위해 항상 userId 오름차순으로 lock 획득
+    //
+    // 반환: [firstId 결과, secondId 결과]
+    // ----------------------------------------------------
+    public RatingSnapshot[] recordGame(Long firstId, Long secondId, GameOutcome outcome) {
+
+        if (firstId.equals(secondId)) {
+            throw new IllegalArgumentException("players must be different");
+        }
+
+        Entry first = entry(firstId);
+        Entry second = entry(secondId);
+
+        Entry lockA = firstId < secondId ? first : second;
+        Entry lockB = firstId < secondId ? second : first;
+
+        RatingSnapshot[] result;
+        long firstVersion;
+        long secondVersion;
+
+        synchronized (lockA) {
+            synchronized (lockB) {
+
+                double score = switch (outcome) {
+                    case FIRST_WIN -> 1.0;
+                    case SECOND_WIN -> 0.0;
+                    case DRAW -> 0.5;
+                };
+
+                double expected = expectedScore(first.rating, second.rating);
+                int delta = (int) Math.round(K_FACTOR * (score - expected));
+
+                first.rating += delta;
+                second.rating -= delta;
+
+                switch (outcome) {
+                    case FIRST_WIN -> { first.wins++; second.losses++; }
+                    case SECOND_WIN -> { first.losses++; second.wins++; }
+                    case DRAW -> { first.draws++; second.draws++; }
+                }
+
+                firstVersion = ++first.version;
+                secondVersion = ++second.version;
+
+                result = new RatingSnapshot[] { first.snapshot(), second.snapshot() };
+            }
+        }
+
+        dirty.add(firstId);
+        dirty.add(secondId);
+
+        listener.onRatingChanged(result[0], firstVersion);
+        listener.onRatingChanged(result[1], secondVersion);
+
+        return result;
+    }
+
+    // ----------------------------------------------------
+    // flush 대상 꺼내기
+    //
+    // dirty에서 먼저 제거한 뒤 증가분을 계산
+    // → 제거 이후 발생한 변경은 다시 dirty에 들어가 다음 flush에 기록됨
+    // base 는 기록 성공(rebase) 전까지 그대로 → 실패 시 같은 증가분이 다시 계산됨
+    // ----------------------------------------------------
+    public List<RatingDelta> drainDirty() {
+
+        List<RatingDelta> result = new ArrayList<>(dirty.size());
+
+        for (Long userId : dirty) {
+            if (!dirty.remove(userId)) {
+                continue;
+            }
+
+            Entry entry = entries.get(userId);
+
+            synchronized (entry) {
+                result.add(entry.delta());
+            }
+        }
+
+        return result;
+    }
+
+    // ----------------------------------------------------
+    // flush 성공 후 DB 에 저장된 값으로 base 갱신
+    //
+    // 메모리 값 = DB 값 + (drain 이후 이 노드에서 생긴 변경)
+    // 다른 노드가 그 사이 기록했다면 메모리 값이 바뀜 → 리스너 알림
+    //
+    // 반환: 다른 노드의 기록이 섞여 있던 유저 수
+    // ----------------------------------------------------
+    public int rebase(List<RatingDelta> written, Map<Long, StoredRating> stored) {
+
+        int conflicts = 0;
+
+        for (RatingDelta delta : written) {
+            StoredRating row = stored.get(delta.userId());
+            Entry entry = entries.get(delta.userId());
+
+            if (row == null || entry == null) {
+                continue;
+            }
+
+            if (row.version() != delta.baseVersion() + 1) {
+                conflicts++;
+            }
+
+            RatingSnapshot changed = null;
+            long version = 0;
+
+            synchronized (entry) {
+                RatingSnapshot before = entry.snapshot();
+
+                entry.rebase(delta, row);
+
+                RatingSnapshot after = entry.snapshot();
+
+                if (!after.equals(before)) {
+                    changed = after;
+                    version = ++entry.version;
+                }
+            }
+
+            if (changed != null) {
+                listener.onRatingChanged(changed, version);
+            }
+        }
+
+        return conflicts;
+    }
+
+    // ----------------------------------------------------
+    // flush 실패 시 재등록 → 다음 flush에서 최신 값으로 재시도
+    // ----------------------------------------------------
+    public void markDirty(Collection<Long> userIds) {
+        dirty.addAll(userIds);
+    }
+
+    public int dirtyCount() {
+        return dirty.size();
+    }
+
+    static double expectedScore(int rating, int opponentRating) {
+        return 1.0 / (1.0 + Math.pow(10, (opponentRating - rating) / 400.0));
+    }
+
+    private Entry entry(Long userId) {
+
+        Entry entry = entries.get(userId);
+
+        if (entry != null) {
+            return entry;
+        }
+
+        // DB 조회는 map lock 밖에서 수행 (다른 유저 갱신을 막지 않도록)
+        Entry loaded = new Entry(loader.apply(userId));
+        Entry existing = entries.putIfAbsent(userId, loaded);
+
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 유저별 가변 상태 (엔트리 자체를 monitor로 사용)
+     */
+    private static final class Entry {
+
+        private final Long userId;
+        private int rating;
+        private int wins;
+        private int losses;
+        private int draws;
+
+        /**
+         * 마지막으로 DB 와 맞춘 값 (증가분 계산 기준) / 그때의 DB 행 version
+         */
+        private RatingSnapshot base;
+        private long baseVersion;
+
+        /**
+         * 변경 횟수 (리스너 순서 판단용, 0 = DB 에서 읽은 상태)
+         */
+        private long version;
+
+        Entry(StoredRating stored) {
+            RatingSnapshot s = stored.snapshot();
+
+            this.userId = s.userId();
+            this.rating = s.rating();
+            this.wins = s.wins();
+            this.losses = s.losses();
+            this.draws = s.draws();
+            this.base = s;
+            this.baseVersion = stored.version();
+        }
+
+        RatingSnapshot snapshot() {
+            return new RatingSnapshot(userId, rating, wins, losses, draws);
+        }
+
+        RatingDelta delta() {
+            return new RatingDelta(
+                    userId,
+                    rating - base.rating(),
+                    wins - base.wins(),
+                    losses - base.losses(),
+                    draws - base.draws(),
+                    baseVersion,
+                    snapshot()
+            );
+        }
+
+        /**
+         * written 이 반영된 DB 행 기준으로 다시 계산
+         * (drain 이후 생긴 변경 = 현재 값 - (base + written) 은 유지)
+         */
+        void rebase(RatingDelta written, StoredRating row) {
+            RatingSnapshot s = row.snapshot();
+
+            rating = s.rating() + (rating - base.rating() - written.rating());
+            wins = s.wins() + (wins - base.wins() - written.wins());
+            losses = s.losses() + (losses - base.losses() - written.losses());
+            draws = s.draws() + (draws - base.draws() - written.draws());
+
+            base = s;
+            baseVersion = row.version();
+        }
+    }
+}
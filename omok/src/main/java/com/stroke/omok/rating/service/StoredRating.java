@@ -0,0 +1,14 @@
+package com.stroke.omok.rating.service;
+
+/**
+ * DB(user_stats)에 저장된 레이팅/전적 + 행 version
+ *
+ * - version 은 flush 가 행을 갱신할 때마다 1 증가 (어느 노드든)
+ * - 마지막으로 본 version 과 비교해 다른 노드의 기록 여부를 판단
+ */
+public record StoredRating(RatingSnapshot snapshot, long version) {
+
+    public static StoredRating initial(Long userId) {
+        return new StoredRating(RatingSnapshot.initial(userId), 0);
+    }
+}
@@ -0,0 +1,70 @@
+package com.stroke.omok.user.security;
+
+import com.stroke.omok.websocket.lobby.LobbyResumeTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ----------------------------------------------------
+ * LobbyResumeAuthenticationFilter
+ * ----------------------------------------------------
+ *
+ * /ws/lobby?resume={token} 요청을 resume 토큰으로 인증
+ *
+ *  - 재시작 직후 HTTP 세션이 사라져도 재로그인 없이 로비 재접속 가능
+ *  - CustomUserDetailsService(DB) / BCrypt 검증을 거치지 않음
+ *  - 토큰이 없거나 유효하지 않으면 아무것도 하지 않음 → 기존 세션 인증 흐름 그대로
+ *
+ * @Component로 등록하지 않는 이유:
+ *  - Boot가 서블릿 필터로 자동 등록하면 Security 체인 밖에서도 한 번 더 실행됨
+ *  - SecurityConfig 에서 직접 생성해 체인에만 추가
+ */
+@RequiredArgsConstructor
+public class LobbyResumeAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String LOBBY_PATH = "/ws/lobby";
+    private static final String RESUME_PARAMETER = "resume";
+
+    private final LobbyResumeTokenService lobbyResumeTokenService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !LOBBY_PATH.equals(request.getServletPath())
+                || request.getParameter(RESUME_PARAMETER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        SecurityContext current = SecurityContextHolder.getContext();
+
+        // 이미 세션으로 인증된 경우 토큰 무시
+        if (current.getAuthentication() == null
+                || !current.getAuthentication().isAuthenticated()) {
+
+            lobbyResumeTokenService.verify(request.getParameter(RESUME_PARAMETER))
+                    .ifPresent(user -> {
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(
+                                UsernamePasswordAuthenticationToken.authenticated(
+                                        user, null, user.getAuthorities()));
+                        SecurityContextHolder.setContext(context);
+
+                        request.setAttribute(LobbyResumeTokenService.RESUMED_ATTRIBUTE, Boolean.TRUE);
+                    });
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,15 @@
+package com.stroke.omok.websocket.lobby;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LobbyChatDto {
+
+    private long seq;       // 전송(publish) 순서 (0 = 아직 전송 전)
+    private Long userId;
+    private String username;
+    private String content;
+    private long sentAt;    // epoch millis
+}
@@ -0,0 +1,64 @@
+package com.stroke.omok.websocket.lobby;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ----------------------------------------------------
+ * LobbyChatHistory
+ * ----------------------------------------------------
+ *
+ * 최근 N개의 로비 채팅을 보관하는 고정 크기 링 버퍼
+ *
+ *  - 배열은 생성 시 한 번만 할당 (메시지가 늘어나도 추가 할당 X)
+ *  - 가득 차면 가장 오래된 메시지를 덮어씀
+ *  - 신규 입장자는 DB 조회 없이 이 버퍼의 스냅샷을 받는다
+ */
+public class LobbyChatHistory {
+
+    private final LobbyChatDto[] buffer;
+
+    /**
+     * 다음에 기록할 위치
+     */
+    private int head;
+
+    /**
+     * 현재 보관 중인 메시지 수 (최대 buffer.length)
+     */
+    private int size;
+
+    public LobbyChatHistory(int capacity) {
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        this.buffer = new LobbyChatDto[capacity];
+    }
+
+    public synchronized void add(LobbyChatDto message) {
+
+        buffer[head] = message;
+        head = (head + 1) % buffer.length;
+
+        if (size < buffer.length) {
+            size++;
+        }
+    }
+
+    /**
+     * 오래된 순 → 최신 순으로 정렬된 복사본 반환
+     */
+    public synchronized List<LobbyChatDto> snapshot() {
+
+        List<LobbyChatDto> result = new ArrayList<>(size);
+        int start = (head - size + buffer.length) % buffer.length;
+
+        for (int i = 0; i < size; i++) {
+            result.add(buffer[(start + i) % buffer.length]);
+        }
+
+        return result;
+    }
+}
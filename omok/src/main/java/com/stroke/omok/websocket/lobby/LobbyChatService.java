@@ -0,0 +1,172 @@
+package com.stroke.omok.websocket.lobby;
+
+import com.stroke.omok.chat.entity.ChatMessage;
+import com.stroke.omok.chat.service.ChatPersistService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * ----------------------------------------------------
+ * LobbyChatService
+ * ----------------------------------------------------
+ *
+ * 역할:
+ *  - 로비 채팅 수신 처리 (검증 → 전송 대기열 → 저장 대기열)
+ *
+ * 전송 방식:
+ *  - 메시지 1개마다 브로드캐스트하지 않음
+ *  - pending 에 쌓아두고, tick 마다 한 번에 묶어서 전송
+ *    → 채팅이 많아도 클라이언트당 tick 당 1 프레임
+ *
+ * tick 당 한도:
+ *  - 유저당 maxPerUser 개, 전체 maxBatch 개 (초과분은 전송 / 저장 없이 버림)
+ *  - 한 유저의 도배로 CHAT 프레임이 커져 느린 클라이언트의 전송 버퍼가 넘치는 것(세션 강제 종료) 방지
+ *
+ * 입장과 tick 의 순서 보장:
+ *  - publish (기록 추가 + 브로드캐스트) 와 join (기록 스냅샷 + 세션 등록) 을 같은 lock 으로 직렬화
+ *  - 신규 입장자는 항상 CHAT_HISTORY 를 먼저 받고,
+ *    이후 받는 CHAT 은 모두 기록보다 새로운 메시지 (겹침 / 누락 없음)
+ */
+@Service
+public class LobbyChatService {
+
+    private static final int MAX_CONTENT_LENGTH = 200;
+
+    private final ChatPersistService chatPersistService;
+
+    private final LobbyChatHistory history;
+
+    /**
+     * tick 당 유저별 / 전체 메시지 한도
+     */
+    private final int maxPerUser;
+    private final int maxBatch;
+
+    /**
+     * 다음 tick에 브로드캐스트할 메시지 (pendingLock 으로 보호)
+     */
+    private final Object pendingLock = new Object();
+    private List<LobbyChatDto> pending = new ArrayList<>();
+    private final Map<Long, Integer> pendingPerUser = new HashMap<>();
+
+    /**
+     * 마지막으로 부여한 seq (publish 에서만 변경)
+     */
+    private long sequence;
+
+    public LobbyChatService(
+            ChatPersistService chatPersistService,
+            @Value("${omok.lobby.chat.history-size:50}") int historySize,
+            @Value("${omok.lobby.chat.max-per-user-per-tick:3}") int maxPerUser,
+            @Value("${omok.lobby.chat.max-batch-per-tick:100}") int maxBatch) {
+
+        this.chatPersistService = chatPersistService;
+        this.history = new LobbyChatHistory(historySize);
+        this.maxPerUser = maxPerUser;
+        this.maxBatch = maxBatch;
+    }
+
+    // ----------------------------------------------------
+    // 채팅 수신
+    //
+    // 반환: 전송 대기열에 들어갔으면 true (빈 메시지 / tick 한도 초과면 false)
+    // ----------------------------------------------------
+    public boolean accept(Long userId, String username, String content) {
+
+        if (content == null) {
+            return false;
+        }
+
+        String trimmed = content.trim();
+
+        if (trimmed.isEmpty()) {
+            return false;
+        }
+
+        if (trimmed.length() > MAX_CONTENT_LENGTH) {
+            trimmed = trimmed.substring(0, MAX_CONTENT_LENGTH);
+        }
+
+        long now = System.currentTimeMillis();
+
+        synchronized (pendingLock) {
+            int count = pendingPerUser.getOrDefault(userId, 0);
+
+            if (count >= maxPerUser || pending.size() >= maxBatch) {
+                return false;
+            }
+
+            pendingPerUser.put(userId, count + 1);
+            pending.add(new LobbyChatDto(0, userId, username, trimmed, now));
+        }
+
+        chatPersistService.enqueue(
+                ChatMessage.builder()
+                        .userId(userId)
+                        .username(username)
+                        .content(trimmed)
+                        .sentAt(LocalDateTime.ofInstant(
+                                Instant.ofEpochMilli(now), ZoneId.systemDefault()))
+                        .build()
+        );
+
+        return true;
+    }
+
+    // ----------------------------------------------------
+    // tick 마다 호출
+    //
+    // 쌓인 메시지에 seq 부여 + 기록에 추가 후 broadcaster 로 전달
+    // (쌓인 메시지가 없으면 broadcaster 호출 X)
+    // ----------------------------------------------------
+    public synchronized void publish(Consumer<List<LobbyChatDto>> broadcaster) {
+
+        List<LobbyChatDto> drained;
+
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            drained = pending;
+            pending = new ArrayList<>();
+            pendingPerUser.clear();
+        }
+
+        List<LobbyChatDto> batch = new ArrayList<>(drained.size());
+
+        for (LobbyChatDto chat : drained) {
+            LobbyChatDto published = new LobbyChatDto(
+                    ++sequence,
+                    chat.getUserId(),
+                    chat.getUsername(),
+                    chat.getContent(),
+                    chat.getSentAt()
+            );
+
+            history.add(published);
+            batch.add(published);
+        }
+
+        broadcaster.accept(batch);
+    }
+
+    // ----------------------------------------------------
+    // 신규 입장
+    //
+    // 최근 기록을 joiner 로 전달 → joiner 는 기록 전송 + 세션 등록
+    // publish 와 같은 lock 이므로 그 사이에 CHAT 이 끼어들지 않음
+    // ----------------------------------------------------
+    public synchronized void join(Consumer<List<LobbyChatDto>> joiner) {
+        joiner.accept(history.snapshot());
+    }
+}
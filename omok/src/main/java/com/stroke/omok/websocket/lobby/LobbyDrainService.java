@@ -0,0 +1,284 @@
+package com.stroke.omok.websocket.lobby;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stroke.omok.user.security.CustomUserDetails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ----------------------------------------------------
+ * LobbyDrainService
+ * ----------------------------------------------------
+ *
+ * 배포(재시작) 시 로비 세션을 한 번에 끊지 않고 나눠서 정리
+ *
+ * 문제:
+ *  - 종료 시 모든 소켓이 동시에 끊김
+ *  - 모든 클라이언트가 같은 순간 재접속 + 재인증 → thundering herd
+ *
+ * drain 순서:
+ *  1) 신규 /ws/lobby handshake 거절 (LobbyHandshakeInterceptor)
+ *  2) 세션을 wave 단위로 나눠
+ *     - RECONNECT 메시지 (resume 토큰 + 무작위 재접속 대기시간) 전송
+ *     - CloseStatus.SERVICE_RESTARTED 로 종료
+ *  3) wave 사이 간격을 두어 종료 / 재접속 부하를 분산
+ *
+ * 시작 방법:
+ *  - 배포 전 미리: POST /admin/lobby/drain (LobbyAdminController)
+ *  - 종료 시 자동: SmartLifecycle.stop(Runnable)
+ *    phase 최댓값 → 웹 서버보다 먼저 호출됨
+ *
+ * 취소:
+ *  - 배포를 중단한 경우: DELETE /admin/lobby/drain
+ *  - 남은 wave 는 진행하지 않고 handshake 다시 허용, 남은 세션에 현재 상태 재전송
+ *  - 이미 끊은 세션은 되돌리지 않음 (클라이언트가 resume 토큰으로 재접속)
+ *  - 프로세스 종료(stop)가 시작된 뒤에는 취소 불가
+ *
+ * 소요 시간:
+ *  - 전체 drain 은 max-duration-ms 안에 끝나도록 wave 크기를 세션 수에 맞춰 키움
+ *  - 기본값(20초)은 spring.lifecycle.timeout-per-shutdown-phase 기본값(30초)보다 작게 설정
+ *  - drain 은 별도 스레드에서 진행 → 종료 단계 스레드를 붙잡지 않음
+ */
+@Service
+@Slf4j
+public class LobbyDrainService implements SmartLifecycle {
+
+    private final LobbyWebSocketHandler lobbyWebSocketHandler;
+    private final LobbyResumeTokenService lobbyResumeTokenService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * wave 당 종료할 최소 세션 수
+     */
+    private final int waveSize;
+
+    /**
+     * wave 사이 간격
+     */
+    private final long waveIntervalMs;
+
+    /**
+     * 전체 drain 시간 한도
+     */
+    private final long maxDurationMs;
+
+    /**
+     * 클라이언트 재접속 대기시간 범위 [0, backoffWindowMs)
+     */
+    private final long backoffWindowMs;
+
+    /**
+     * 진행 중(또는 완료된) drain 작업 (null = drain 시작 전)
+     */
+    private final AtomicReference<CompletableFuture<Void>> drainTask = new AtomicReference<>();
+
+    private volatile boolean running;
+
+    /**
+     * 프로세스 종료 단계 진입 여부 (이후에는 drain 취소 불가)
+     */
+    private volatile boolean stopping;
+
+    public LobbyDrainService(
+            LobbyWebSocketHandler lobbyWebSocketHandler,
+            LobbyResumeTokenService lobbyResumeTokenService,
+            @Value("${omok.lobby.drain.wave-size:50}") int waveSize,
+            @Value("${omok.lobby.drain.wave-interval-ms:200}") long waveIntervalMs,
+            @Value("${omok.lobby.drain.max-duration-ms:20000}") long maxDurationMs,
+            @Value("${omok.lobby.drain.backoff-window-ms:10000}") long backoffWindowMs) {
+
+        this.lobbyWebSocketHandler = lobbyWebSocketHandler;
+        this.lobbyResumeTokenService = lobbyResumeTokenService;
+        this.waveSize = waveSize;
+        this.waveIntervalMs = waveIntervalMs;
+        this.maxDurationMs = maxDurationMs;
+        this.backoffWindowMs = backoffWindowMs;
+    }
+
+    public boolean isDraining() {
+        return drainTask.get() != null;
+    }
+
+    // ----------------------------------------------------
+    // drain 시작 (이미 시작됐으면 진행 중인 작업 반환)
+    // ----------------------------------------------------
+    public synchronized CompletableFuture<Void> startDrain() {
+
+        CompletableFuture<Void> task = new CompletableFuture<>();
+
+        if (!drainTask.compareAndSet(null, task)) {
+            return drainTask.get();
+        }
+
+        lobbyWebSocketHandler.beginDrain();
+
+        Thread worker = new Thread(() -> {
+            try {
+                drain(task);
+            } finally {
+                task.complete(null);
+            }
+        }, "lobby-drain");
+
+        worker.setDaemon(true);
+        worker.start();
+
+        return task;
+    }
+
+    // ----------------------------------------------------
+    // drain 취소 (배포 중단)
+    //
+    // 반환: 취소했으면 true (진행 중인 drain 이 없거나 종료 단계면 false)
+    // ----------------------------------------------------
+    public synchronized boolean cancelDrain() {
+
+        CompletableFuture<Void> task = drainTask.get();
+
+        if (task == null || stopping || !drainTask.compareAndSet(task, null)) {
+            return false;
+        }
+
+        lobbyWebSocketHandler.endDrain();
+        task.complete(null);
+
+        log.info("[LOBBY] DRAIN cancelled");
+        return true;
+    }
+
+    private void drain(CompletableFuture<Void> task) {
+
+        List<WebSocketSession> targets =
+                new ArrayList<>(lobbyWebSocketHandler.openSessions());
+
+        // 접속 순서와 무관하게 섞어서 재접속 시점을 분산
+        Collections.shuffle(targets);
+
+        int size = waveSizeFor(targets.size());
+
+        log.info("[LOBBY] DRAIN start - sessions={}, waveSize={}", targets.size(), size);
+
+        for (int from = 0; from < targets.size(); from += size) {
+
+            // 취소됨 → 남은 wave 중단
+            if (drainTask.get() != task) {
+                log.info("[LOBBY] DRAIN stopped - closed={}", from);
+                return;
+            }
+
+            List<WebSocketSession> wave =
+                    targets.subList(from, Math.min(from + size, targets.size()));
+
+            for (WebSocketSession session : wave) {
+                sendReconnectAndClose(session);
+            }
+
+            if (from + size < targets.size()) {
+                try {
+                    Thread.sleep(waveIntervalMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        log.info("[LOBBY] DRAIN done");
+    }
+
+    /**
+     * 시간 한도 안에 끝나도록 wave 크기 결정
+     *
+     * wave 수 ≤ maxDurationMs / waveIntervalMs + 1
+     * → wave 크기 = max(설정값, ceil(세션 수 / 최대 wave 수))
+     */
+    int waveSizeFor(int sessionCount) {
+
+        long maxWaves = maxDurationMs / Math.max(1, waveIntervalMs) + 1;
+        int required = (int) Math.ceil(sessionCount / (double) maxWaves);
+
+        return Math.max(Math.max(1, waveSize), required);
+    }
+
+    private void sendReconnectAndClose(WebSocketSession session) {
+
+        try {
+            if (session.isOpen()
+                    && session.getPrincipal() instanceof Authentication authentication
+                    && authentication.getPrincipal() instanceof CustomUserDetails user) {
+
+                LobbyMessage message = new LobbyMessage(
+                        LobbyMessageType.RECONNECT,
+                        Map.of(
+                                "resumeToken", lobbyResumeTokenService.issue(user),
+                                "reconnectAfterMs", ThreadLocalRandom.current().nextLong(backoffWindowMs)
+                        )
+                );
+
+                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+            }
+
+            session.close(CloseStatus.SERVICE_RESTARTED);
+
+        } catch (Exception e) {
+            log.warn("[LOBBY] DRAIN close error - sessionId={}", session.getId(), e);
+        }
+    }
+
+    // ---------------- SmartLifecycle ----------------
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        markStopping();
+        startDrain().join();
+        running = false;
+    }
+
+    /**
+     * 비동기 종료
+     * - drain 이 끝나면 callback 호출
+     * - 끝나지 않더라도 timeout-per-shutdown-phase 가 지나면 Spring 이 다음 단계로 진행
+     */
+    @Override
+    public void stop(Runnable callback) {
+        markStopping();
+        startDrain().whenComplete((result, error) -> {
+            running = false;
+            callback.run();
+        });
+    }
+
+    private synchronized void markStopping() {
+        stopping = true;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,56 @@
+package com.stroke.omok.websocket.lobby;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * ----------------------------------------------------
+ * LobbyHandshakeInterceptor
+ * ----------------------------------------------------
+ *
+ *  - drain 중에는 신규 /ws/lobby handshake 거절 (503)
+ *    → 클라이언트는 다른 노드 또는 재기동된 서버로 재접속
+ *  - resume 토큰으로 인증된 요청이면 세션 속성에 표시
+ *    → 핸들러가 USER_LIST 스냅샷 전송을 생략
+ */
+@Component
+@RequiredArgsConstructor
+public class LobbyHandshakeInterceptor implements HandshakeInterceptor {
+
+    private final LobbyDrainService lobbyDrainService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request,
+                                   ServerHttpResponse response,
+                                   WebSocketHandler wsHandler,
+                                   Map<String, Object> attributes) {
+
+        if (lobbyDrainService.isDraining()) {
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return false;
+        }
+
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest()
+                        .getAttribute(LobbyResumeTokenService.RESUMED_ATTRIBUTE) != null) {
+            attributes.put(LobbyResumeTokenService.RESUMED_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request,
+                               ServerHttpResponse response,
+                               WebSocketHandler wsHandler,
+                               Exception exception) {
+    }
+}
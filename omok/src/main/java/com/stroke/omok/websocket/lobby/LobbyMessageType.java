@@ -24,11 +24,18 @@ package com.stroke.omok.websocket.lobby;
 public enum LobbyMessageType {
 
     USER_COUNT,     // 현재 접속자 수
-    USER_JOIN,      // 유저 입장 (확장용)
-    USER_LEAVE,     // 유저 퇴장 (확장용)
+    USER_JOIN,      // 유저 입장 (tick 단위 묶음, payload = 유저 배열)
+    USER_LEAVE,     // 유저 퇴장 (tick 단위 묶음, payload = userId 배열)
 
-    USER_LIST, // 로비 접속 시 전체 유저 목록 스냅샷
+    USER_LIST, // 로비 접속 시 전체 유저 목록 스냅샷 (클라이언트가 요청해서 다시 받을 수도 있음)
+    USER_STATE, // resume 재접속 / drain 취소 시 현재 유저 id + 상태만 담은 압축 스냅샷
 
-    ROOM_LIST,      // 방 목록 전달 (Day 3 후반)
+    CHAT,           // 로비 채팅 (클라이언트 → 서버: 단건 / 서버 → 클라이언트: tick 단위 묶음)
+    CHAT_HISTORY,   // 로비 접속 시 최근 채팅 기록
+
+    RECONNECT,      // 서버 drain(배포) 안내 - resume 토큰 + 재접속 대기시간
+
+    ROOM_LIST,      // 방 목록 구독 (클라이언트 → 서버: 필터 / 서버 → 클라이언트: 필터 스냅샷)
+    ROOM_DELTA,     // 방 목록 변경분 (added / updated / removed, tick 단위 병합)
     MATCHING_STATE  // 매칭 상태 (Day 4)
 }
@@ -0,0 +1,63 @@
+package com.stroke.omok.websocket.lobby;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ----------------------------------------------------
+ * LobbyPresenceBatch
+ * ----------------------------------------------------
+ *
+ * tick 동안 발생한 입장 / 퇴장을 모아두는 버퍼
+ *
+ * 문제:
+ *  - 접속 1건마다 USER_COUNT + USER_JOIN 을 전체에 브로드캐스트하면
+ *    N명이 짧은 시간에 접속할 때 약 2·N² 프레임 (배포 직후 재접속 몰림)
+ *
+ * 방식:
+ *  - 유저별 마지막 이벤트만 남김 (입장 후 퇴장 → 퇴장, 퇴장 후 재입장 → 입장)
+ *  - tick 마다 USER_COUNT / USER_JOIN / USER_LEAVE 를 각각 최대 1 프레임으로 전송
+ */
+public class LobbyPresenceBatch {
+
+    private final Map<Long, LobbyUserDto> joined = new LinkedHashMap<>();
+
+    private final Set<Long> left = new LinkedHashSet<>();
+
+    public synchronized void join(LobbyUserDto user) {
+        left.remove(user.getUserId());
+        joined.put(user.getUserId(), user);
+    }
+
+    public synchronized void leave(Long userId) {
+        joined.remove(userId);
+        left.add(userId);
+    }
+
+    /**
+     * 모인 변경을 꺼내고 비움 (변경이 없으면 null)
+     */
+    public synchronized Drained drain() {
+
+        if (joined.isEmpty() && left.isEmpty()) {
+            return null;
+        }
+
+        Drained drained = new Drained(
+                new ArrayList<>(joined.values()),
+                new ArrayList<>(left)
+        );
+
+        joined.clear();
+        left.clear();
+
+        return drained;
+    }
+
+    public record Drained(List<LobbyUserDto> joined, List<Long> left) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.stroke.omok.websocket.lobby;
+
+import com.stroke.omok.user.entity.User;
+import com.stroke.omok.user.security.CustomUserDetails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * ----------------------------------------------------
+ * LobbyResumeTokenService
+ * ----------------------------------------------------
+ *
+ * 배포(재시작) 시 로비 재접속용 resume 토큰 발급 / 검증
+ *
+ * 목적:
+ *  - 재시작 직후 모든 클라이언트가 동시에 재로그인하면
+ *    CustomUserDetailsService(DB 조회) + BCrypt 검증이 한꺼번에 몰림
+ *  - resume 토큰이 있으면 DB 없이 서명 검증만으로 인증 복원
+ *
+ * 형식:
+ *  - base64url("userId:role:expiresAt:username") + "." + base64url(HMAC-SHA256)
+ *  - 서버 메모리에 저장하지 않음 → 재시작된 새 프로세스에서도 검증 가능
+ *    (단, 모든 노드가 같은 omok.lobby.resume.secret 을 사용해야 함)
+ */
+@Service
+@Slf4j
+public class LobbyResumeTokenService {
+
+    /**
+     * resume 토큰으로 인증된 handshake 표시 (request attribute → WebSocket session attribute)
+     */
+    public static final String RESUMED_ATTRIBUTE = "lobby.resumed";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final byte[] secret;
+
+    private final long ttlMillis;
+
+    public LobbyResumeTokenService(
+            @Value("${omok.lobby.resume.secret:}") String secret,
+            @Value("${omok.lobby.resume.ttl-seconds:300}") long ttlSeconds) {
+
+        if (secret.isBlank()) {
+            // 임시 키 → 이 프로세스가 발급한 토큰은 재시작 후 검증 불가 (일반 로그인으로 fallback)
+            log.warn("[LOBBY] omok.lobby.resume.secret not set - resume tokens will not survive restart");
+            this.secret = new byte[32];
+            new SecureRandom().nextBytes(this.secret);
+        } else {
+            this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // ----------------------------------------------------
+    // 토큰 발급
+    // ----------------------------------------------------
+    public String issue(CustomUserDetails user) {
+
+        String role = user.getAuthorities()
+                .stream()
+                .findFirst()
+                .map(a -> a.getAuthority().replaceFirst("^ROLE_", ""))
+                .orElse("USER");
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+
+        String payload = user.getUserId() + ":" + role + ":" + expiresAt + ":" + user.getUsername();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    // ----------------------------------------------------
+    // 토큰 검증 → 인증 객체 복원 (DB 조회 없음)
+    // ----------------------------------------------------
+    public Optional<CustomUserDetails> verify(String token) {
+
+        try {
+            int dot = token.indexOf('.');
+
+            if (dot < 0) {
+                return Optional.empty();
+            }
+
+            byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+
+            // 타이밍 공격 방지를 위해 상수 시간 비교
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                return Optional.empty();
+            }
+
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split(":", 4);
+
+            if (parts.length != 4 || Long.parseLong(parts[2]) < System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+
+            User user = User.builder()
+                    .id(Long.parseLong(parts[0]))
+                    .role(parts[1])
+                    .username(parts[3])
+                    .password("")
+                    .build();
+
+            return Optional.of(new CustomUserDetails(user));
+
+        } catch (IllegalArgumentException e) {
+            // Base64 / 숫자 형식 오류 → 위조 또는 손상된 토큰
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+
+        try {
+            // Mac은 thread-safe 하지 않으므로 호출마다 생성
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+            return mac.doFinal(payload);
+
+        } catch (Exception e) {
+            throw new IllegalStateException("resume token sign error", e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.stroke.omok.websocket.lobby;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ----------------------------------------------------
+ * LobbyRoomDirectory
+ * ----------------------------------------------------
+ *
+ * 역할:
+ *  - 로비에 보여줄 방 목록을 상태별(OPEN / FULL / IN_PROGRESS)로 나눠 보관
+ *    → 필터 스냅샷은 해당 상태 인덱스만 순회
+ *  - 방 생성/변경/삭제를 tick 단위로 병합해 보관
+ *    → 브로드캐스트 시 전체 목록이 아닌 변경분(delta)만 전송
+ *
+ * 병합 규칙 (tick 동안 같은 방의 변경이 여러 번 발생한 경우):
+ *  - "직전 flush 시점 상태(before)" 와 "현재 상태(after)" 만 유지
+ *  - 같은 tick 에 생성 후 삭제된 방은 아무것도 전송하지 않음
+ *
+ * 구독 시작:
+ *  - drainAndSnapshot 으로 "남은 변경분" 과 "현재 스냅샷" 을 같은 시점에 꺼냄
+ *    → 스냅샷 이후의 변경은 모두 다음 delta 에 포함 (before = 스냅샷 시점 상태)
+ *  - 생성 후 삭제 병합도 스냅샷을 넘어서 일어나지 않음 (스냅샷에 보인 방의 삭제는 항상 전송)
+ *
+ * 방 생성/입장/게임 시작 등 실제 방 로직은 이 클래스를 호출해 상태를 반영한다.
+ */
+@Component
+public class LobbyRoomDirectory {
+
+    private final Map<Long, LobbyRoomDto> rooms = new ConcurrentHashMap<>();
+
+    private final Map<LobbyRoomStatus, Set<Long>> byStatus =
+            new EnumMap<>(LobbyRoomStatus.class);
+
+    /**
+     * 다음 tick 에 전송할 변경분 (roomId → before/after)
+     */
+    private final Map<Long, Change> pending = new LinkedHashMap<>();
+
+    public LobbyRoomDirectory() {
+        for (LobbyRoomStatus status : LobbyRoomStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * flush 구간 동안의 방 하나의 변경 (null = 존재하지 않음)
+     */
+    public record Change(LobbyRoomDto before, LobbyRoomDto after) {
+    }
+
+    /**
+     * 필터 기준으로 본 변경분 (ROOM_DELTA payload)
+     */
+    public record Delta(List<LobbyRoomDto> added, List<LobbyRoomDto> updated, List<Long> removed) {
+    }
+
+    /**
+     * 같은 시점에 꺼낸 변경분 + 필터 스냅샷
+     */
+    public record Subscription(List<Change> changes, List<LobbyRoomDto> rooms) {
+    }
+
+    // ----------------------------------------------------
+    // 방 생성 / 변경
+    // ----------------------------------------------------
+    public synchronized void put(LobbyRoomDto room) {
+
+        LobbyRoomDto previous = rooms.put(room.getRoomId(), room);
+
+        if (previous != null) {
+            byStatus.get(previous.getStatus()).remove(room.getRoomId());
+        }
+
+        byStatus.get(room.getStatus()).add(room.getRoomId());
+
+        record(room.getRoomId(), previous, room);
+    }
+
+    // ----------------------------------------------------
+    // 방 삭제
+    // ----------------------------------------------------
+    public synchronized void remove(Long roomId) {
+
+        LobbyRoomDto previous = rooms.remove(roomId);
+
+        if (previous == null) {
+            return;
+        }
+
+        byStatus.get(previous.getStatus()).remove(roomId);
+
+        record(roomId, previous, null);
+    }
+
+    // ----------------------------------------------------
+    // 필터 스냅샷 (구독 시작 시 1회)
+    // ----------------------------------------------------
+    public List<LobbyRoomDto> snapshot(LobbyRoomFilter filter) {
+
+        List<LobbyRoomDto> result = new ArrayList<>();
+
+        for (LobbyRoomStatus status : filter.statuses()) {
+            for (Long roomId : byStatus.get(status)) {
+                LobbyRoomDto room = rooms.get(roomId);
+
+                // 인덱스 순회 중 상태가 바뀐 방은 제외
+                if (room != null && room.getStatus() == status) {
+                    result.add(room);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // ----------------------------------------------------
+    // 구독 시작 → 남은 변경분과 스냅샷을 원자적으로 꺼냄
+    //
+    // 호출 측은 changes 를 기존 구독자에게 먼저 전송한 뒤 새 구독자에게 rooms 전송
+    // ----------------------------------------------------
+    public synchronized Subscription drainAndSnapshot(LobbyRoomFilter filter) {
+        return new Subscription(drainChanges(), snapshot(filter));
+    }
+
+    // ----------------------------------------------------
+    // tick 마다 호출 → 병합된 변경분을 꺼냄
+    // ----------------------------------------------------
+    public synchronized List<Change> drainChanges() {
+
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        List<Change> changes = new ArrayList<>(pending.values());
+        pending.clear();
+
+        return changes;
+    }
+
+    // ----------------------------------------------------
+    // 필터 기준 변경분 (보이던 방이 필터 밖으로 나가면 removed)
+    //
+    //  before 보임 / after 보임   → updated
+    //  before 안보임 / after 보임 → added
+    //  before 보임 / after 안보임 → removed
+    //
+    // 보이는 변경이 없으면 null
+    // ----------------------------------------------------
+    public static Delta delta(List<Change> changes, LobbyRoomFilter filter) {
+
+        List<LobbyRoomDto> added = new ArrayList<>();
+        List<LobbyRoomDto> updated = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+
+        for (Change change : changes) {
+            boolean visibleBefore = filter.matches(change.before());
+            boolean visibleAfter = filter.matches(change.after());
+
+            if (!visibleBefore && visibleAfter) {
+                added.add(change.after());
+            } else if (visibleBefore && visibleAfter) {
+                updated.add(change.after());
+            } else if (visibleBefore) {
+                removed.add(change.before().getRoomId());
+            }
+        }
+
+        if (added.isEmpty() && updated.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+
+        return new Delta(added, updated, removed);
+    }
+
+    private void record(Long roomId, LobbyRoomDto previous, LobbyRoomDto current) {
+
+        Change existing = pending.get(roomId);
+        LobbyRoomDto before = existing != null ? existing.before() : previous;
+
+        if (before == null && current == null) {
+            // 같은 tick 안에서 생성 → 삭제
+            pending.remove(roomId);
+            return;
+        }
+
+        pending.put(roomId, new Change(before, current));
+    }
+}
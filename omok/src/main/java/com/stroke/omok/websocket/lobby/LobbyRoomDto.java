@@ -0,0 +1,15 @@
+package com.stroke.omok.websocket.lobby;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LobbyRoomDto {
+
+    private Long roomId;
+    private String title;
+    private int playerCount;
+    private int capacity;
+    private LobbyRoomStatus status;
+}
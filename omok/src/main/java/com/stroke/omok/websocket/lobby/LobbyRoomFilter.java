@@ -0,0 +1,27 @@
+package com.stroke.omok.websocket.lobby;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+// 클라이언트가 구독하는 방 목록 범위
+// → 화면에 보여줄 방만 받도록 해서 클라이언트별 트래픽을 줄임
+public enum LobbyRoomFilter {
+
+    ALL(EnumSet.allOf(LobbyRoomStatus.class)),          // 전체
+    JOINABLE(EnumSet.of(LobbyRoomStatus.OPEN)),          // 입장 가능한 방만
+    IN_PROGRESS(EnumSet.of(LobbyRoomStatus.IN_PROGRESS)); // 관전 가능한 방만
+
+    private final Set<LobbyRoomStatus> statuses;
+
+    LobbyRoomFilter(Set<LobbyRoomStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Set<LobbyRoomStatus> statuses() {
+        return statuses;
+    }
+
+    public boolean matches(LobbyRoomDto room) {
+        return room != null && statuses.contains(room.getStatus());
+    }
+}
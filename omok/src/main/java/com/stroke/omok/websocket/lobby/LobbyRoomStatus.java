@@ -0,0 +1,7 @@
+package com.stroke.omok.websocket.lobby;
+
+public enum LobbyRoomStatus {
+    OPEN,         // 입장 가능 (빈 자리 있음)
+    FULL,         // 인원 마감 (게임 시작 전)
+    IN_PROGRESS   // 게임 진행 중
+}
@@ -1,13 +1,21 @@
 package com.stroke.omok.websocket.lobby;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stroke.omok.user.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -24,11 +32,15 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  *  - 접속 / 퇴장 이벤트 처리
  *  - USER_COUNT 브로드캐스트
- *  - USER_JOIN / USER_LEAVE 이벤트
+ *  - USER_JOIN / USER_LEAVE 이벤트 (tick 단위 묶음 전송, payload = 배열)
  *  - USER_LIST (로비 유저 스냅샷)
+ *  - CHAT (로비 채팅, tick 단위 묶음 전송) / CHAT_HISTORY (최근 기록)
+ *  - drain 지원 (LobbyDrainService), resume 재접속 시 USER_LIST 대신 USER_STATE
+ *  - ROOM_LIST (필터 구독 스냅샷) / ROOM_DELTA (방 목록 변경분)
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class LobbyWebSocketHandler extends TextWebSocketHandler {
 
     /**
@@ -58,6 +70,48 @@ public class LobbyWebSocketHandler extends TextWebSocketHandler {
      */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * 세션별 최대 전송 대기 시간 / 버퍼 크기
+     *
+     * - 브로드캐스트가 여러 스레드(요청 스레드, tick 스레드)에서 발생
+     * - WebSocketSession.sendMessage()는 thread-safe 하지 않음
+     * - ConcurrentWebSocketSessionDecorator로 감싸 동시 전송을 직렬화
+     */
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 512 * 1024;
+
+    private final LobbyChatService lobbyChatService;
+
+    private final LobbyRoomDirectory lobbyRoomDirectory;
+
+    /**
+     * 방 목록 구독 필터
+     *
+     * key   : userId
+     * value : 구독 중인 필터 (ROOM_LIST 요청 전에는 없음 → ROOM_DELTA 받지 않음)
+     *
+     * userId 당 세션은 하나(sessions)이므로 새 세션 접속 시 초기화
+     */
+    private final Map<Long, LobbyRoomFilter> roomFilters =
+            new ConcurrentHashMap<>();
+
+    /**
+     * ROOM_LIST 스냅샷 / ROOM_DELTA 전송 순서 보장용 lock
+     * - 구독 시작과 tick 전송이 섞이면 오래된 스냅샷이 최신 delta 뒤에 도착할 수 있음
+     */
+    private final Object roomPublishLock = new Object();
+
+    /**
+     * 다음 presence tick 에 전송할 입장 / 퇴장
+     */
+    private final LobbyPresenceBatch presence = new LobbyPresenceBatch();
+
+    /**
+     * drain 진행 중 여부
+     * - 대량 종료 시 퇴장 이벤트를 남은 세션에 하나하나 뿌리지 않도록
+     */
+    private volatile boolean draining;
+
     // ----------------------------------------------------
     // WebSocket 연결 성공 (로비 입장)
     // ----------------------------------------------------
@@ -96,35 +150,157 @@ public class LobbyWebSocketHandler extends TextWebSocketHandler {
          * 로비 사용자 상태 등록
          * - USER_LIST 스냅샷에 사용됨
          */
-        users.put(
+        LobbyUserDto joined = new LobbyUserDto(
                 userId,
-                new LobbyUserDto(
-                        userId,
-                        user.getUsername(),
-                        LobbyUserStatus.WAITING
-                )
+                user.getUsername(),
+                LobbyUserStatus.WAITING
         );
 
+        users.put(userId, joined);
+
         /**
          * WebSocket 세션 등록
          * - 브로드캐스트 대상
          */
-        sessions.put(userId, session);
+        WebSocketSession concurrentSession =
+                new ConcurrentWebSocketSessionDecorator(
+                        session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT_BYTES);
 
-        log.info("[LOBBY] JOIN - userId={}, username={}",
-                userId, user.getUsername());
+        boolean resumed = Boolean.TRUE.equals(
+                session.getAttributes().get(LobbyResumeTokenService.RESUMED_ATTRIBUTE));
 
         /**
-         * 신규 접속자에게 현재 로비 상태 스냅샷 전달
-         *    (USER_LIST)
+         * 세션 등록 + 스냅샷 전송은 채팅 tick 과 같은 lock 안에서 수행
+         * - CHAT_HISTORY 가 항상 첫 CHAT 보다 먼저 도착하고, 둘의 메시지가 겹치지 않음
          */
-        sendUserList(session);
+        lobbyChatService.join(recentChats -> {
+
+            sessions.put(userId, concurrentSession);
+
+            /**
+             * 방 목록 구독 초기화
+             * - 같은 유저의 이전 세션(다른 탭 등) 필터를 새 세션이 물려받지 않도록
+             * - 새 세션은 ROOM_LIST 요청 후부터 ROOM_DELTA 수신
+             */
+            roomFilters.remove(userId);
+
+            /**
+             * 신규 접속자에게 현재 로비 상태 스냅샷 전달
+             *    (USER_LIST)
+             *
+             * resume 토큰으로 재접속한 경우 USER_STATE (id + 상태만) 전달
+             *  - 배포 직후 재접속이 몰릴 때 전체 목록 전송 비용 감소
+             *  - 클라이언트는 이전 목록에서 USER_STATE 에 없는 유저를 제거하고 상태를 갱신
+             *  - 모르는 id 가 있으면 USER_LIST 를 요청해 전체 목록을 다시 받음
+             */
+            if (resumed) {
+                sendUserState(concurrentSession);
+            } else {
+                sendUserList(concurrentSession);
+            }
+
+            sendChatHistory(concurrentSession, recentChats);
+        });
+
+        log.info("[LOBBY] JOIN - userId={}, username={}",
+                userId, user.getUsername());
 
         /**
-         * 전체 사용자에게 이벤트 브로드캐스트
+         * 전체 사용자에게 알릴 입장 이벤트 등록
+         * - 접속마다 브로드캐스트하지 않고 presence tick 에서 묶어서 전송
+         * - resume 재접속이 몰려도 클라이언트당 tick 당 최대 USER_COUNT + USER_JOIN 1 프레임씩
          */
-        broadcastUserCount();
-        broadcastUserJoin(user);
+        presence.join(joined);
+    }
+
+    // ----------------------------------------------------
+    // 클라이언트 → 서버 메시지 수신
+    //
+    // 형식: { "type": "CHAT", "payload": { "content": "..." } }
+    //       { "type": "USER_LIST" }
+    //       { "type": "ROOM_LIST", "payload": { "filter": "JOINABLE" } }
+    // ----------------------------------------------------
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+
+        Authentication authentication =
+                (Authentication) session.getPrincipal();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return;
+        }
+
+        CustomUserDetails user =
+                (CustomUserDetails) authentication.getPrincipal();
+
+        JsonNode root;
+
+        try {
+            root = objectMapper.readTree(message.getPayload());
+        } catch (Exception e) {
+            // 클라이언트가 임의로 보낼 수 있는 값 → stack trace 없이 한 줄만 기록 (로그 폭주 방지)
+            log.warn("[LOBBY] invalid message format - userId={}", user.getUserId());
+            return;
+        }
+
+        LobbyMessageType type =
+                parseEnum(LobbyMessageType.class, root.path("type").asText());
+
+        if (type == null) {
+            log.warn("[LOBBY] unknown message type - userId={}", user.getUserId());
+            return;
+        }
+
+        try {
+            if (type == LobbyMessageType.USER_LIST) {
+                WebSocketSession current = sessions.get(user.getUserId());
+
+                if (current != null) {
+                    sendUserList(current);
+                }
+            } else if (type == LobbyMessageType.CHAT) {
+                lobbyChatService.accept(
+                        user.getUserId(),
+                        user.getUsername(),
+                        root.path("payload").path("content").asText(null)
+                );
+            } else if (type == LobbyMessageType.ROOM_LIST) {
+                LobbyRoomFilter filter = parseEnum(
+                        LobbyRoomFilter.class,
+                        root.path("payload").path("filter").asText(LobbyRoomFilter.ALL.name()));
+
+                if (filter == null) {
+                    log.warn("[LOBBY] unknown room filter - userId={}", user.getUserId());
+                    return;
+                }
+
+                WebSocketSession current = sessions.get(user.getUserId());
+
+                // 이미 다른 세션으로 대체된 이전 세션의 요청은 무시
+                if (current == null || !current.getId().equals(session.getId())) {
+                    return;
+                }
+
+                subscribeRooms(user.getUserId(), filter);
+            }
+
+        } catch (Exception e) {
+            log.error("[LOBBY] message handling error - userId={}, type={}", user.getUserId(), type, e);
+        }
+    }
+
+    /**
+     * 문자열 → enum (없는 값이면 예외 대신 null)
+     */
+    private static <E extends Enum<E>> E parseEnum(Class<E> enumType, String name) {
+
+        for (E constant : enumType.getEnumConstants()) {
+            if (constant.name().equals(name)) {
+                return constant;
+            }
+        }
+
+        return null;
     }
 
     // ----------------------------------------------------
@@ -149,19 +325,44 @@ public class LobbyWebSocketHandler extends TextWebSocketHandler {
 
             sessions.remove(disconnectedUserId);
             users.remove(disconnectedUserId);
+            roomFilters.remove(disconnectedUserId);
 
             log.info("[LOBBY] LEAVE - userId={}", disconnectedUserId);
 
+            if (draining) {
+                return;
+            }
+
             /**
-             * 퇴장 이벤트 발생 시
-             *  - 접속자 수 갱신
-             *  - USER_LEAVE 이벤트 브로드캐스트
+             * 퇴장 이벤트 등록
+             *  - 접속자 수 갱신 / USER_LEAVE 는 presence tick 에서 묶어서 전송
              */
-            broadcastUserCount();
-            broadcastUserLeave(disconnectedUserId);
+            presence.leave(disconnectedUserId);
         }
     }
 
+    // ----------------------------------------------------
+    // drain 지원 (LobbyDrainService 에서 호출)
+    // ----------------------------------------------------
+    void beginDrain() {
+        draining = true;
+    }
+
+    /**
+     * drain 취소
+     * - drain 중 생략했던 퇴장 이벤트 대신 현재 상태 (USER_COUNT + USER_STATE) 를 한 번 전송
+     */
+    void endDrain() {
+        draining = false;
+
+        broadcastUserCount();
+        broadcast(userStateMessage());
+    }
+
+    Collection<WebSocketSession> openSessions() {
+        return sessions.values();
+    }
+
     // ----------------------------------------------------
     // 현재 접속자 수 브로드캐스트
     // ----------------------------------------------------
@@ -176,32 +377,31 @@ public class LobbyWebSocketHandler extends TextWebSocketHandler {
     }
 
     // ----------------------------------------------------
-    // 유저 입장 이벤트 브로드캐스트
+    // presence tick 브로드캐스트
+    //
+    // tick 동안 모인 입장 / 퇴장을 묶어서 전송
+    //  - USER_COUNT : 현재 접속자 수
+    //  - USER_JOIN  : [{ userId, username, status }, ...]
+    //  - USER_LEAVE : [userId, ...]
     // ----------------------------------------------------
-    private void broadcastUserJoin(CustomUserDetails user) {
+    @Scheduled(fixedDelayString = "${omok.lobby.presence.tick-ms:200}")
+    public void flushPresence() {
 
-        LobbyMessage message = new LobbyMessage(
-                LobbyMessageType.USER_JOIN,
-                Map.of(
-                        "userId", user.getUserId(),
-                        "username", user.getUsername()
-                )
-        );
+        LobbyPresenceBatch.Drained drained = presence.drain();
 
-        broadcast(message);
-    }
+        if (drained == null) {
+            return;
+        }
 
-    // ----------------------------------------------------
-    // 유저 퇴장 이벤트 브로드캐스트
-    // ----------------------------------------------------
-    private void broadcastUserLeave(Long userId) {
+        broadcastUserCount();
 
-        LobbyMessage message = new LobbyMessage(
-                LobbyMessageType.USER_LEAVE,
-                Map.of("userId", userId)
-        );
+        if (!drained.joined().isEmpty()) {
+            broadcast(new LobbyMessage(LobbyMessageType.USER_JOIN, drained.joined()));
+        }
 
-        broadcast(message);
+        if (!drained.left().isEmpty()) {
+            broadcast(new LobbyMessage(LobbyMessageType.USER_LEAVE, drained.left()));
+        }
     }
 
     // ----------------------------------------------------
@@ -224,21 +424,204 @@ public class LobbyWebSocketHandler extends TextWebSocketHandler {
     }
 
     // ----------------------------------------------------
-    // 공통 브로드캐스트 메서드
+    // USER_STATE (resume 재접속용 압축 스냅샷) - 단일 세션 전송
+    //
+    // 유저명 없이 id / 상태를 열 단위 배열로 전송
+    // { "userIds": [1, 2], "statuses": ["WAITING", "IN_GAME"] }
     // ----------------------------------------------------
-    private void broadcast(LobbyMessage message) {
+    private void sendUserState(WebSocketSession session) {
 
         try {
+            String json = objectMapper.writeValueAsString(userStateMessage());
+            session.sendMessage(new TextMessage(json));
+
+        } catch (Exception e) {
+            log.error("[LOBBY] send USER_STATE error", e);
+        }
+    }
+
+    private LobbyMessage userStateMessage() {
+
+        List<Long> userIds = new ArrayList<>(users.size());
+        List<LobbyUserStatus> statuses = new ArrayList<>(users.size());
+
+        for (LobbyUserDto dto : users.values()) {
+            userIds.add(dto.getUserId());
+            statuses.add(dto.getStatus());
+        }
+
+        return new LobbyMessage(
+                LobbyMessageType.USER_STATE,
+                Map.of(
+                        "userIds", userIds,
+                        "statuses", statuses
+                )
+        );
+    }
+
+    // ----------------------------------------------------
+    // CHAT_HISTORY (최근 채팅 기록) - 단일 세션 전송
+    //
+    // 링 버퍼에서 꺼내므로 DB 조회 없음
+    // ----------------------------------------------------
+    private void sendChatHistory(WebSocketSession session, List<LobbyChatDto> recentChats) {
+
+        try {
+            LobbyMessage message = new LobbyMessage(
+                    LobbyMessageType.CHAT_HISTORY,
+                    recentChats
+            );
+
             String json = objectMapper.writeValueAsString(message);
+            session.sendMessage(new TextMessage(json));
 
-            for (WebSocketSession session : sessions.values()) {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(json));
-                }
+        } catch (Exception e) {
+            log.error("[LOBBY] send CHAT_HISTORY error", e);
+        }
+    }
+
+    // ----------------------------------------------------
+    // 채팅 tick 브로드캐스트
+    //
+    // tick 동안 쌓인 채팅을 하나의 CHAT 프레임(payload = 배열)으로 전송
+    // → 채팅량과 무관하게 클라이언트당 tick 당 최대 1 프레임
+    // (전송까지 LobbyChatService lock 안에서 수행 → 입장 처리와 순서가 섞이지 않음)
+    // ----------------------------------------------------
+    @Scheduled(fixedDelayString = "${omok.lobby.chat.tick-ms:100}")
+    public void flushChat() {
+        lobbyChatService.publish(batch ->
+                broadcast(new LobbyMessage(LobbyMessageType.CHAT, batch)));
+    }
+
+    // ----------------------------------------------------
+    // ROOM_LIST 구독 → 필터 스냅샷 전송
+    //
+    // 이후에는 해당 필터에 보이는 변경분만 ROOM_DELTA 로 받음
+    //
+    // 순서 보장 (roomPublishLock):
+    //  1) 남은 변경분과 스냅샷을 같은 시점에 꺼냄 (drainAndSnapshot)
+    //  2) 남은 변경분은 기존 구독자에게 먼저 전송
+    //  3) 필터 등록 후 스냅샷 전송
+    //  → 이 구독자가 이후 받는 delta 는 모두 스냅샷 이후의 변경
+    // ----------------------------------------------------
+    private void subscribeRooms(Long userId, LobbyRoomFilter filter) {
+
+        synchronized (roomPublishLock) {
+
+            WebSocketSession session = sessions.get(userId);
+
+            if (session == null) {
+                return;
+            }
+
+            roomFilters.remove(userId);
+
+            LobbyRoomDirectory.Subscription subscription =
+                    lobbyRoomDirectory.drainAndSnapshot(filter);
+
+            sendRoomDeltas(subscription.changes());
+
+            roomFilters.put(userId, filter);
+
+            try {
+                LobbyMessage message = new LobbyMessage(
+                        LobbyMessageType.ROOM_LIST,
+                        Map.of(
+                                "filter", filter,
+                                "rooms", subscription.rooms()
+                        )
+                );
+
+                String json = objectMapper.writeValueAsString(message);
+                session.sendMessage(new TextMessage(json));
+
+            } catch (Exception e) {
+                log.error("[LOBBY] send ROOM_LIST error", e);
+            }
+        }
+    }
+
+    // ----------------------------------------------------
+    // 방 목록 tick 브로드캐스트
+    //
+    // - tick 동안 병합된 변경분을 필터별로 한 번씩만 계산 / 직렬화
+    // - 구독자는 자기 필터에 보이는 변경이 있을 때만 1 프레임 수신
+    // ----------------------------------------------------
+    @Scheduled(fixedDelayString = "${omok.lobby.room.tick-ms:200}")
+    public void flushRoomDeltas() {
+
+        synchronized (roomPublishLock) {
+            sendRoomDeltas(lobbyRoomDirectory.drainChanges());
+        }
+    }
+
+    private void sendRoomDeltas(List<LobbyRoomDirectory.Change> changes) {
+
+        if (changes.isEmpty() || roomFilters.isEmpty()) {
+            return;
+        }
+
+        Map<LobbyRoomFilter, TextMessage> frames = new EnumMap<>(LobbyRoomFilter.class);
+
+        for (LobbyRoomFilter filter : LobbyRoomFilter.values()) {
+            LobbyRoomDirectory.Delta delta = LobbyRoomDirectory.delta(changes, filter);
+
+            if (delta == null) {
+                continue;
             }
 
+            try {
+                frames.put(filter, new TextMessage(objectMapper.writeValueAsString(
+                        new LobbyMessage(LobbyMessageType.ROOM_DELTA, delta))));
+            } catch (Exception e) {
+                log.error("[LOBBY] ROOM_DELTA serialize error", e);
+            }
+        }
+
+        for (Map.Entry<Long, LobbyRoomFilter> entry : roomFilters.entrySet()) {
+            TextMessage frame = frames.get(entry.getValue());
+            WebSocketSession session = sessions.get(entry.getKey());
+
+            if (frame == null || session == null || !session.isOpen()) {
+                continue;
+            }
+
+            try {
+                session.sendMessage(frame);
+            } catch (Exception e) {
+                log.warn("[LOBBY] send ROOM_DELTA error - userId={}", entry.getKey(), e);
+            }
+        }
+    }
+
+    // ----------------------------------------------------
+    // 공통 브로드캐스트 메서드
+    // ----------------------------------------------------
+    private void broadcast(LobbyMessage message) {
+
+        TextMessage frame;
+
+        try {
+            frame = new TextMessage(objectMapper.writeValueAsString(message));
         } catch (Exception e) {
-            log.error("[LOBBY] broadcast error", e);
+            log.error("[LOBBY] broadcast serialize error", e);
+            return;
+        }
+
+        /**
+         * 직렬화는 한 번만, 전송 실패는 세션 단위로 처리
+         * - 느린 클라이언트 하나 때문에 나머지 전송이 중단되지 않도록
+         */
+        for (WebSocketSession session : sessions.values()) {
+            if (!session.isOpen()) {
+                continue;
+            }
+
+            try {
+                session.sendMessage(frame);
+            } catch (Exception e) {
+                log.warn("[LOBBY] broadcast error - sessionId={}", session.getId(), e);
+            }
         }
     }
 }
@@ -0,0 +1,43 @@
+-- --------------------------------------------------------------------
+-- 운영(prod) 스키마
+--
+-- prod 프로필은 ddl-auto=validate → Hibernate가 테이블을 만들지 않음
+-- 기동 시 spring.sql.init 으로 이 스크립트를 먼저 실행한 뒤 엔티티 검증
+--  - IF NOT EXISTS → 이미 있는 테이블은 그대로 둠 (여러 번 실행해도 안전)
+--  - 엔티티 컬럼을 바꾸면 이 파일도 함께 수정
+--
+-- 개발(기본) 프로필은 ddl-auto=update 를 그대로 사용 (이 스크립트 실행 X)
+-- --------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS `user` (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    username   VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    role       VARCHAR(255) NOT NULL,
+    created_at DATETIME(6)  DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_user_username (username)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 레이팅 / 전적 (UserStatsWriter 의 증가분 UPSERT 대상, version = 갱신 횟수)
+-- version 컬럼이 없던 기존 테이블: ALTER TABLE user_stats ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER draws;
+CREATE TABLE IF NOT EXISTS user_stats (
+    user_id    BIGINT      NOT NULL,
+    rating     INT         NOT NULL,
+    wins       INT         NOT NULL,
+    losses     INT         NOT NULL,
+    draws      INT         NOT NULL,
+    version    BIGINT      NOT NULL DEFAULT 0,
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 로비 채팅 기록 (ChatPersistService 배치 저장)
+CREATE TABLE IF NOT EXISTS lobby_chat_message (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id  BIGINT       NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    content  VARCHAR(500) NOT NULL,
+    sent_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,130 @@
+package com.stroke.omok.leaderboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardIndexTest {
+
+    private static List<Integer> ranks(List<LeaderboardIndex.Ranked> rows) {
+        return rows.stream().map(LeaderboardIndex.Ranked::rank).toList();
+    }
+
+    /**
+     * rankOf 와 top 의 순위가 모든 유저에 대해 일치해야 함
+     */
+    private static void assertRankOfMatchesTop(LeaderboardIndex index) {
+        for (LeaderboardIndex.Ranked row : index.top(Integer.MAX_VALUE)) {
+            assertThat(index.rankOf(row.userId())).isEqualTo(row);
+        }
+    }
+
+    @Test
+    void tiesShareRank() {
+        LeaderboardIndex index = new LeaderboardIndex(100);
+
+        index.update(1L, 1200, 1);
+        index.update(2L, 1300, 1);
+        index.update(3L, 1100, 1);
+        index.update(4L, 1200, 1);
+
+        assertThat(ranks(index.top(10))).containsExactly(1, 2, 2, 4);
+        assertThat(index.rankOf(4L).rank()).isEqualTo(2);
+        assertThat(index.rankOf(3L).rank()).isEqualTo(4);
+        assertThat(index.rankOf(99L)).isNull();
+        assertRankOfMatchesTop(index);
+    }
+
+    @Test
+    void movingUserUpdatesBothStructures() {
+        LeaderboardIndex index = new LeaderboardIndex(100);
+
+        index.update(1L, 1200, 1);
+        index.update(2L, 1300, 1);
+        index.update(3L, 1100, 1);
+
+        index.update(3L, 1350, 2);
+
+        assertThat(index.top(3)).extracting(LeaderboardIndex.Ranked::userId)
+                .containsExactly(3L, 2L, 1L);
+        assertThat(index.rankOf(1L).rank()).isEqualTo(3);
+        assertThat(index.size()).isEqualTo(3);
+        assertRankOfMatchesTop(index);
+    }
+
+    @Test
+    void staleVersionIsIgnored() {
+        LeaderboardIndex index = new LeaderboardIndex(100);
+
+        index.update(1L, 1232, 2);
+
+        assertThat(index.update(1L, 1216, 1)).isFalse();
+        assertThat(index.rankOf(1L).rating()).isEqualTo(1232);
+    }
+
+    @Test
+    void loadDoesNotOverwriteNewerValue() {
+        LeaderboardIndex index = new LeaderboardIndex(100);
+
+        index.update(1L, 1232, 1);
+        index.load(1L, 1200);
+
+        assertThat(index.rankOf(1L).rating()).isEqualTo(1232);
+    }
+
+    @Test
+    void ratingsOutsideBucketRangeRankLikeTop() {
+        LeaderboardIndex index = new LeaderboardIndex(100);
+
+        index.update(1L, 5000, 1);
+        index.update(2L, 4500, 1);
+        index.update(3L, LeaderboardIndex.MAX_RATING, 1);
+        index.update(4L, LeaderboardIndex.MIN_RATING, 1);
+        index.update(5L, -10, 1);
+        index.update(6L, -50, 1);
+        index.update(7L, -50, 1);
+
+        assertThat(ranks(index.top(10))).containsExactly(1, 2, 3, 4, 5, 6, 6);
+        assertThat(index.rankOf(1L).rank()).isEqualTo(1);
+        assertThat(index.rankOf(2L).rank()).isEqualTo(2);
+        assertRankOfMatchesTop(index);
+    }
+
+    @Test
+    void updateReportsWhetherTopPageMayChange() {
+        LeaderboardIndex index = new LeaderboardIndex(2);
+
+        // 페이지가 다 차기 전에는 모든 변경이 영향
+        assertThat(index.update(1L, 1300, 1)).isTrue();
+        assertThat(index.update(2L, 1200, 1)).isTrue();
+
+        // 페이지 밖에서 페이지 밖으로
+        assertThat(index.update(3L, 1100, 1)).isFalse();
+        assertThat(index.update(3L, 1150, 2)).isFalse();
+
+        // 같은 레이팅
+        assertThat(index.update(1L, 1300, 2)).isFalse();
+
+        // 페이지 안으로 진입
+        assertThat(index.update(3L, 1250, 3)).isTrue();
+
+        // 페이지 안에서 밖으로 이탈
+        assertThat(index.update(1L, 1000, 3)).isTrue();
+        assertThat(index.top(2)).extracting(LeaderboardIndex.Ranked::userId)
+                .containsExactly(3L, 2L);
+    }
+
+    @Test
+    void thresholdInOverflowBucket() {
+        LeaderboardIndex index = new LeaderboardIndex(2);
+
+        index.update(1L, 5000, 1);
+        index.update(2L, 4500, 1);
+
+        // 페이지 마지막 = 4500 (overflow 버킷) → 4400 은 영향 없음, 4600 은 영향
+        assertThat(index.update(3L, 4400, 1)).isFalse();
+        assertThat(index.update(3L, 4600, 2)).isTrue();
+    }
+}
@@ -0,0 +1,190 @@
+package com.stroke.omok.rating.service;
+
+import com.stroke.omok.leaderboard.service.LeaderboardService;
+import com.stroke.omok.rating.entity.UserStats;
+import com.stroke.omok.rating.repository.UserStatsRepository;
+import com.stroke.omok.rating.repository.UserStatsWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RatingServiceTest {
+
+    /**
+     * MySQL user_stats 테이블 역할
+     */
+    private final Map<Long, StoredRating> db = new ConcurrentHashMap<>();
+
+    private final UserStatsRepository userStatsRepository = mock(UserStatsRepository.class);
+
+    private final FakeWriter writer = new FakeWriter();
+
+    @BeforeEach
+    void setUp() {
+        when(userStatsRepository.findById(any())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            return Optional.ofNullable(db.get(userId))
+                    .map(row -> UserStats.builder()
+                            .userId(userId)
+                            .rating(row.snapshot().rating())
+                            .wins(row.snapshot().wins())
+                            .losses(row.snapshot().losses())
+                            .draws(row.snapshot().draws())
+                            .version(row.version())
+                            .build());
+        });
+    }
+
+    private RatingService newService() {
+        return new RatingService(userStatsRepository, writer, mock(LeaderboardService.class));
+    }
+
+    private RatingSnapshot stored(Long userId) {
+        return db.get(userId).snapshot();
+    }
+
+    @Test
+    void failedFlushIsRetriedWithLatestValues() {
+        RatingService service = newService();
+
+        service.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+
+        // 배치 실패 → 트랜잭션 롤백 (아무 행도 반영되지 않음)
+        writer.failNext();
+        service.flush();
+
+        service.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+        service.flush();
+
+        assertThat(stored(1L).wins()).isEqualTo(2);
+        assertThat(stored(2L).losses()).isEqualTo(2);
+
+        // 재시도 배치도 유저당 1건
+        assertThat(writer.batches.get(writer.batches.size() - 1)).hasSize(2);
+    }
+
+    @Test
+    void crashLosesAtMostOneFlushWindow() {
+        RatingService service = newService();
+
+        service.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+        service.flush();
+        RatingSnapshot lastFlushed = stored(1L);
+
+        // 이후 flush 는 DB 장애로 실패 → 이 상태에서 비정상 종료
+        service.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+        writer.failNext();
+        service.flush();
+        RatingSnapshot inMemory = service.getRating(1L);
+
+        // 재기동: 새 인스턴스가 DB 에서 lazy 로딩
+        RatingSnapshot recovered = newService().getRating(1L);
+
+        assertThat(recovered).isEqualTo(lastFlushed);
+        assertThat(inMemory.wins() - recovered.wins()).isEqualTo(1);
+    }
+
+    @Test
+    void shutdownFlushesPendingChanges() {
+        RatingService service = newService();
+
+        service.recordGame(1L, 2L, GameOutcome.DRAW);
+        service.shutdown();
+
+        assertThat(stored(1L).draws()).isEqualTo(1);
+        assertThat(stored(2L).draws()).isEqualTo(1);
+    }
+
+    @Test
+    void gamesOnTwoNodesAreNotOverwritten() {
+        // 두 노드 모두 유저 1 을 미리 읽어둔 상태 (서로의 결과를 모름)
+        RatingService nodeA = newService();
+        RatingService nodeB = newService();
+        nodeA.getRating(1L);
+        nodeB.getRating(1L);
+
+        nodeA.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+        nodeB.recordGame(1L, 3L, GameOutcome.FIRST_WIN);
+
+        nodeA.flush();
+        nodeB.flush();
+
+        assertThat(stored(1L).wins()).isEqualTo(2);
+        assertThat(stored(1L).rating())
+                .isEqualTo(RatingSnapshot.INITIAL_RATING + RatingStore.K_FACTOR);
+
+        // 나중에 flush 한 노드는 DB 값으로 맞춰짐
+        assertThat(nodeB.getRating(1L)).isEqualTo(stored(1L));
+
+        // 먼저 flush 한 노드는 다음 flush 에서 맞춰짐 (그 사이 게임도 유실 없음)
+        nodeA.recordGame(1L, 2L, GameOutcome.DRAW);
+        nodeA.flush();
+
+        assertThat(stored(1L).wins()).isEqualTo(2);
+        assertThat(stored(1L).draws()).isEqualTo(1);
+        assertThat(nodeA.getRating(1L)).isEqualTo(stored(1L));
+    }
+
+    /**
+     * 증가분 UPSERT 를 흉내 내는 writer (실패 시 트랜잭션처럼 아무것도 반영하지 않음)
+     */
+    private class FakeWriter extends UserStatsWriter {
+
+        private final List<List<RatingDelta>> batches = new ArrayList<>();
+
+        private boolean failNext;
+
+        FakeWriter() {
+            super(null);
+        }
+
+        void failNext() {
+            this.failNext = true;
+        }
+
+        @Override
+        public Map<Long, StoredRating> applyAll(List<RatingDelta> deltas) {
+            batches.add(List.copyOf(deltas));
+
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("simulated MySQL failure");
+            }
+
+            Map<Long, StoredRating> result = new HashMap<>();
+
+            for (RatingDelta d : deltas) {
+                StoredRating row = db.compute(d.userId(), (id, old) -> {
+                    if (old == null) {
+                        return new StoredRating(d.current(), 1);
+                    }
+
+                    RatingSnapshot s = old.snapshot();
+
+                    return new StoredRating(
+                            new RatingSnapshot(id,
+                                    s.rating() + d.rating(),
+                                    s.wins() + d.wins(),
+                                    s.losses() + d.losses(),
+                                    s.draws() + d.draws()),
+                            old.version() + 1);
+                });
+
+                result.put(d.userId(), row);
+            }
+
+            return result;
+        }
+    }
+}
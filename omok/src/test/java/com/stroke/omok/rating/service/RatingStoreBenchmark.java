@@ -0,0 +1,95 @@
+package com.stroke.omok.rating.service;
+
+import com.stroke.omok.leaderboard.service.LeaderboardIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게임 종료 처리량 측정 (기본 test 에서 제외)
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class RatingStoreBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingStoreBenchmark.class);
+
+    private static final int THREADS = 4;
+    private static final int GAMES_PER_THREAD = 250_000;
+    private static final int USERS_PER_THREAD = 1_000;
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @Test
+    void gameEndThroughput() throws Exception {
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(new RatingStore(StoredRating::initial));
+        }
+
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            RatingStore store = new RatingStore(StoredRating::initial);
+            double perSecond = run(store);
+
+            log.info("[BENCH] rating store only: {} game-end updates/s", Math.round(perSecond));
+            assertThat(store.drainDirty()).hasSize(THREADS * USERS_PER_THREAD);
+        }
+    }
+
+    /**
+     * 운영 경로와 같은 구성: 게임 종료마다 리더보드 인덱스 갱신
+     */
+    @Test
+    void gameEndThroughputWithLeaderboard() throws Exception {
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(withLeaderboard(new LeaderboardIndex(100)));
+        }
+
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            LeaderboardIndex index = new LeaderboardIndex(100);
+            double perSecond = run(withLeaderboard(index));
+
+            log.info("[BENCH] rating store + leaderboard: {} game-end updates/s", Math.round(perSecond));
+            assertThat(index.size()).isEqualTo(THREADS * USERS_PER_THREAD);
+        }
+    }
+
+    private static RatingStore withLeaderboard(LeaderboardIndex index) {
+        return new RatingStore(StoredRating::initial,
+                (snapshot, version) -> index.update(snapshot.userId(), snapshot.rating(), version));
+    }
+
+    /**
+     * 스레드마다 서로 다른 유저 집합으로 게임 결과 반영 → 초당 처리 수 반환
+     */
+    static double run(RatingStore store) throws InterruptedException {
+
+        Thread[] workers = new Thread[THREADS];
+        long start = System.nanoTime();
+
+        for (int t = 0; t < THREADS; t++) {
+            long base = (long) t * USERS_PER_THREAD;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < GAMES_PER_THREAD; i++) {
+                    long a = base + (i % USERS_PER_THREAD);
+                    long b = base + ((i + 1) % USERS_PER_THREAD);
+                    store.recordGame(a, b, GameOutcome.FIRST_WIN);
+                }
+            });
+            workers[t].start();
+        }
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return THREADS * GAMES_PER_THREAD / seconds;
+    }
+}
@@ -0,0 +1,131 @@
+package com.stroke.omok.rating.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RatingStoreTest {
+
+    /**
+     * MySQL 역할을 하는 메모리 저장소
+     */
+    private final Map<Long, StoredRating> db = new ConcurrentHashMap<>();
+
+    private RatingStore newStore() {
+        return new RatingStore(id -> db.getOrDefault(id, StoredRating.initial(id)));
+    }
+
+    /**
+     * UserStatsWriter 와 같은 방식으로 증가분 반영 후 rebase
+     */
+    private int flush(RatingStore store) {
+        List<RatingDelta> batch = store.drainDirty();
+        Map<Long, StoredRating> stored = new HashMap<>();
+
+        for (RatingDelta d : batch) {
+            stored.put(d.userId(), db.compute(d.userId(), (id, old) -> old == null
+                    ? new StoredRating(d.current(), 1)
+                    : new StoredRating(new RatingSnapshot(id,
+                            old.snapshot().rating() + d.rating(),
+                            old.snapshot().wins() + d.wins(),
+                            old.snapshot().losses() + d.losses(),
+                            old.snapshot().draws() + d.draws()),
+                            old.version() + 1)));
+        }
+
+        store.rebase(batch, stored);
+        return batch.size();
+    }
+
+    @Test
+    void equalRatingWinMovesHalfK() {
+        RatingStore store = newStore();
+
+        RatingSnapshot[] result = store.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+
+        assertThat(result[0].rating()).isEqualTo(1200 + RatingStore.K_FACTOR / 2);
+        assertThat(result[1].rating()).isEqualTo(1200 - RatingStore.K_FACTOR / 2);
+        assertThat(result[0].wins()).isEqualTo(1);
+        assertThat(result[1].losses()).isEqualTo(1);
+    }
+
+    @Test
+    void severalGamesCoalesceIntoOneWritePerUser() {
+        RatingStore store = newStore();
+
+        store.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+        store.recordGame(1L, 2L, GameOutcome.SECOND_WIN);
+        store.recordGame(1L, 3L, GameOutcome.DRAW);
+
+        List<RatingDelta> batch = store.drainDirty();
+
+        assertThat(batch).hasSize(3);
+        assertThat(batch).filteredOn(d -> d.userId() == 1L)
+                .singleElement()
+                .satisfies(d -> {
+                    assertThat(d.wins()).isEqualTo(1);
+                    assertThat(d.losses()).isEqualTo(1);
+                    assertThat(d.draws()).isEqualTo(1);
+                    assertThat(d.baseVersion()).isZero();
+                });
+        assertThat(store.dirtyCount()).isZero();
+    }
+
+    @Test
+    void failedFlushIsRetriedWithLatestValues() {
+        RatingStore store = newStore();
+
+        store.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+        List<RatingDelta> failed = store.drainDirty();
+        store.markDirty(failed.stream().map(RatingDelta::userId).toList());
+
+        store.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+        flush(store);
+
+        assertThat(db.get(1L).snapshot().wins()).isEqualTo(2);
+        assertThat(db.get(2L).snapshot().losses()).isEqualTo(2);
+    }
+
+    @Test
+    void changesAfterDrainSurviveRebase() {
+        RatingStore store = newStore();
+
+        store.recordGame(1L, 2L, GameOutcome.FIRST_WIN);
+        List<RatingDelta> batch = store.drainDirty();
+
+        // drain 과 DB 반영 사이에 다른 노드가 한 판 기록 (version 1)
+        db.put(1L, new StoredRating(new RatingSnapshot(1L, 1210, 0, 1, 0), 1));
+
+        // 이 노드에서도 drain 이후 한 판 더 진행
+        store.recordGame(1L, 2L, GameOutcome.DRAW);
+        RatingSnapshot beforeRebase = store.get(1L);
+
+        RatingDelta written = batch.stream().filter(d -> d.userId() == 1L).findFirst().orElseThrow();
+        StoredRating row = new StoredRating(new RatingSnapshot(1L,
+                1210 + written.rating(), 1, 1, 0), 2);
+
+        int conflicts = store.rebase(List.of(written), Map.of(1L, row));
+
+        RatingSnapshot after = store.get(1L);
+
+        assertThat(conflicts).isEqualTo(1);
+        // DB 값 + drain 이후 변경 (무승부 1, 그 레이팅 변동)
+        assertThat(after.wins()).isEqualTo(1);
+        assertThat(after.losses()).isEqualTo(1);
+        assertThat(after.draws()).isEqualTo(1);
+        assertThat(after.rating() - row.snapshot().rating())
+                .isEqualTo(beforeRebase.rating() - (RatingSnapshot.INITIAL_RATING + written.rating()));
+
+        // 다음 flush 는 drain 이후 변경분만 기록
+        assertThat(store.drainDirty()).filteredOn(d -> d.userId() == 1L).singleElement().satisfies(d -> {
+            assertThat(d.draws()).isEqualTo(1);
+            assertThat(d.wins()).isZero();
+            assertThat(d.baseVersion()).isEqualTo(2);
+        });
+    }
+}
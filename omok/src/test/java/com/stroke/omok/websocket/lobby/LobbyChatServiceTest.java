@@ -0,0 +1,105 @@
+package com.stroke.omok.websocket.lobby;
+
+import com.stroke.omok.chat.service.ChatPersistService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LobbyChatServiceTest {
+
+    private final ChatPersistService chatPersistService = mock(ChatPersistService.class);
+
+    /**
+     * history 10, 유저당 tick 2개, tick 전체 5개
+     */
+    private final LobbyChatService service = new LobbyChatService(chatPersistService, 10, 2, 5);
+
+    private List<LobbyChatDto> publish() {
+        List<LobbyChatDto> published = new ArrayList<>();
+        service.publish(published::addAll);
+        return published;
+    }
+
+    @Test
+    void perUserLimitDropsExcessWithinTick() {
+        assertThat(service.accept(1L, "a", "one")).isTrue();
+        assertThat(service.accept(1L, "a", "two")).isTrue();
+        assertThat(service.accept(1L, "a", "three")).isFalse();
+        assertThat(service.accept(2L, "b", "other")).isTrue();
+
+        assertThat(publish()).extracting(LobbyChatDto::getContent)
+                .containsExactly("one", "two", "other");
+
+        // 버린 메시지는 저장도 하지 않음
+        verify(chatPersistService, times(3)).enqueue(any());
+
+        // 다음 tick 에는 한도가 다시 채워짐
+        assertThat(service.accept(1L, "a", "four")).isTrue();
+    }
+
+    @Test
+    void batchLimitCapsFrameSize() {
+        for (long userId = 1; userId <= 8; userId++) {
+            service.accept(userId, "u" + userId, "hi");
+        }
+
+        assertThat(publish()).hasSize(5);
+        assertThat(publish()).isEmpty();
+    }
+
+    @Test
+    void publishAssignsSequenceAndRecordsHistory() {
+        service.accept(1L, "a", "first");
+        publish();
+        service.accept(2L, "b", "second");
+        List<LobbyChatDto> batch = publish();
+
+        assertThat(batch).extracting(LobbyChatDto::getSeq).containsExactly(2L);
+
+        List<LobbyChatDto> history = new ArrayList<>();
+        service.join(history::addAll);
+
+        assertThat(history).extracting(LobbyChatDto::getSeq).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void joinWaitsForInFlightPublish() throws Exception {
+        service.accept(1L, "a", "hello");
+
+        List<LobbyChatDto> joinedHistory = new ArrayList<>();
+        List<CompletableFuture<Void>> joins = new ArrayList<>();
+
+        service.publish(batch -> {
+            // 브로드캐스트 도중 들어온 입장은 브로드캐스트가 끝날 때까지 대기
+            CompletableFuture<Void> join = CompletableFuture.runAsync(
+                    () -> service.join(joinedHistory::addAll));
+            joins.add(join);
+
+            assertThatThrownBy(() -> join.get(200, TimeUnit.MILLISECONDS))
+                    .isInstanceOf(TimeoutException.class);
+        });
+
+        joins.get(0).get(1, TimeUnit.SECONDS);
+
+        // 입장 시 받은 기록에는 이미 브로드캐스트된 메시지가 포함됨 (이후 CHAT 과 겹치지 않음)
+        assertThat(joinedHistory).extracting(LobbyChatDto::getContent).containsExactly("hello");
+    }
+
+    @Test
+    void blankMessagesAreIgnored() {
+        assertThat(service.accept(1L, "a", "   ")).isFalse();
+        assertThat(service.accept(1L, "a", null)).isFalse();
+        assertThat(publish()).isEmpty();
+    }
+}
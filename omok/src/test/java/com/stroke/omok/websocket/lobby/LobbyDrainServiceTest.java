@@ -0,0 +1,100 @@
+package com.stroke.omok.websocket.lobby;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LobbyDrainServiceTest {
+
+    private static final long WAVE_INTERVAL_MS = 200;
+    private static final long MAX_DURATION_MS = 20_000;
+
+    private final LobbyDrainService service =
+            new LobbyDrainService(null, null, 50, WAVE_INTERVAL_MS, MAX_DURATION_MS, 10_000);
+
+    private static long drainMillis(int sessions, int waveSize) {
+        long waves = (sessions + waveSize - 1) / waveSize;
+        return Math.max(0, waves - 1) * WAVE_INTERVAL_MS;
+    }
+
+    @Test
+    void smallLobbyUsesConfiguredWaveSize() {
+        assertThat(service.waveSizeFor(0)).isEqualTo(50);
+        assertThat(service.waveSizeFor(120)).isEqualTo(50);
+    }
+
+    @Test
+    void largeLobbyGrowsWavesToStayWithinBudget() {
+        for (int sessions : new int[] { 5_000, 10_000, 100_000 }) {
+            int waveSize = service.waveSizeFor(sessions);
+
+            assertThat(waveSize).isGreaterThanOrEqualTo(50);
+            assertThat(drainMillis(sessions, waveSize)).isLessThanOrEqualTo(MAX_DURATION_MS);
+        }
+
+        // 10k 세션: 기본값(50)이면 40초 → 100 으로 키워 20초 이내
+        assertThat(service.waveSizeFor(10_000)).isEqualTo(100);
+    }
+
+    @Test
+    void cancelStopsRemainingWavesAndReopensLobby() throws Exception {
+        LobbyWebSocketHandler handler = mock(LobbyWebSocketHandler.class);
+        List<WebSocketSession> sessions = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            WebSocketSession session = mock(WebSocketSession.class);
+            when(session.getId()).thenReturn("s" + i);
+            sessions.add(session);
+        }
+
+        when(handler.openSessions()).thenReturn(sessions);
+
+        // wave 당 1 세션, wave 간격 1초 → 취소 시점에는 첫 wave 만 진행
+        LobbyDrainService drainService =
+                new LobbyDrainService(handler, null, 1, 1_000, 60_000, 10_000);
+
+        drainService.startDrain();
+        Thread.sleep(200);
+
+        assertThat(drainService.cancelDrain()).isTrue();
+        assertThat(drainService.isDraining()).isFalse();
+        verify(handler).endDrain();
+
+        Thread.sleep(1_200);
+
+        long closed = sessions.stream()
+                .filter(s -> mockingDetails(s).getInvocations().stream()
+                        .anyMatch(inv -> inv.getMethod().getName().equals("close")))
+                .count();
+
+        // 취소 전 wave(최대 1개)만 종료, 나머지 세션은 유지
+        assertThat(closed).isLessThanOrEqualTo(1);
+
+        // 취소할 drain 이 없음
+        assertThat(drainService.cancelDrain()).isFalse();
+    }
+
+    @Test
+    void drainCannotBeCancelledOnceShutdownStarted() {
+        LobbyWebSocketHandler handler = mock(LobbyWebSocketHandler.class);
+        when(handler.openSessions()).thenReturn(List.of());
+
+        LobbyDrainService drainService =
+                new LobbyDrainService(handler, null, 50, WAVE_INTERVAL_MS, MAX_DURATION_MS, 10_000);
+
+        drainService.stop(() -> { });
+
+        assertThat(drainService.cancelDrain()).isFalse();
+        assertThat(drainService.isDraining()).isTrue();
+        verify(handler, never()).endDrain();
+    }
+}
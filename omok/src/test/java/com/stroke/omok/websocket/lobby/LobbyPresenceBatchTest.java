@@ -0,0 +1,48 @@
+package com.stroke.omok.websocket.lobby;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LobbyPresenceBatchTest {
+
+    private final LobbyPresenceBatch batch = new LobbyPresenceBatch();
+
+    private static LobbyUserDto user(long userId) {
+        return new LobbyUserDto(userId, "user" + userId, LobbyUserStatus.WAITING);
+    }
+
+    @Test
+    void manyJoinsBecomeOneDrain() {
+        for (long userId = 1; userId <= 1000; userId++) {
+            batch.join(user(userId));
+        }
+
+        LobbyPresenceBatch.Drained drained = batch.drain();
+
+        assertThat(drained.joined()).hasSize(1000);
+        assertThat(drained.left()).isEmpty();
+        assertThat(batch.drain()).isNull();
+    }
+
+    @Test
+    void lastEventPerUserWins() {
+        // 입장 후 퇴장 → 퇴장만
+        batch.join(user(1));
+        batch.leave(1L);
+
+        // 퇴장 후 재입장 (재접속) → 입장만
+        batch.leave(2L);
+        batch.join(user(2));
+
+        LobbyPresenceBatch.Drained drained = batch.drain();
+
+        assertThat(drained.joined()).extracting(LobbyUserDto::getUserId).containsExactly(2L);
+        assertThat(drained.left()).containsExactly(1L);
+    }
+
+    @Test
+    void emptyTickDrainsNothing() {
+        assertThat(batch.drain()).isNull();
+    }
+}
@@ -0,0 +1,110 @@
+package com.stroke.omok.websocket.lobby;
+
+import com.stroke.omok.user.entity.User;
+import com.stroke.omok.user.security.CustomUserDetails;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LobbyResumeTokenServiceTest {
+
+    private static final String SECRET = "test-secret";
+
+    private final LobbyResumeTokenService service = new LobbyResumeTokenService(SECRET, 300);
+
+    private static CustomUserDetails user(long id, String username) {
+        return new CustomUserDetails(User.builder()
+                .id(id)
+                .username(username)
+                .password("{bcrypt}...")
+                .role("USER")
+                .build());
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void validTokenRestoresUserWithoutPassword() {
+        String token = service.issue(user(7L, "alice:with:colons"));
+
+        CustomUserDetails restored = service.verify(token).orElseThrow();
+
+        assertThat(restored.getUserId()).isEqualTo(7L);
+        assertThat(restored.getUsername()).isEqualTo("alice:with:colons");
+        assertThat(restored.getAuthorities()).extracting(a -> a.getAuthority())
+                .containsExactly("ROLE_USER");
+        assertThat(restored.getPassword()).isEmpty();
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() {
+        String token = service.issue(user(7L, "alice"));
+        String signature = token.substring(token.indexOf('.') + 1);
+
+        // 같은 서명에 다른 userId / role
+        String forged = encode("1:ADMIN:" + Long.MAX_VALUE + ":alice") + "." + signature;
+
+        assertThat(service.verify(forged)).isEmpty();
+    }
+
+    @Test
+    void tamperedSignatureIsRejected() {
+        String token = service.issue(user(7L, "alice"));
+        int dot = token.indexOf('.');
+
+        // 서명 첫 글자 변경 (마지막 글자는 사용되지 않는 비트를 포함할 수 있으므로 피함)
+        char first = token.charAt(dot + 1);
+        String tampered = token.substring(0, dot + 1) + (first == 'A' ? 'B' : 'A') + token.substring(dot + 2);
+
+        assertThat(service.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    void tokenSignedWithOtherSecretIsRejected() {
+        String token = new LobbyResumeTokenService("other-secret", 300).issue(user(7L, "alice"));
+
+        assertThat(service.verify(token)).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        LobbyResumeTokenService expiring = new LobbyResumeTokenService(SECRET, -1);
+        String token = expiring.issue(user(7L, "alice"));
+
+        assertThat(expiring.verify(token)).isEmpty();
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThat(service.verify("")).isEmpty();
+        assertThat(service.verify("no-dot")).isEmpty();
+        assertThat(service.verify("%%%.%%%")).isEmpty();
+        assertThat(service.verify(".")).isEmpty();
+    }
+
+    @Test
+    void correctlySignedBadPayloadIsRejected() throws Exception {
+        // 서명은 올바르지만 내용 형식이 잘못된 경우 (필드 부족 / 숫자 아님)
+        assertThat(service.verify(signed("7:USER"))).isEmpty();
+        assertThat(service.verify(signed("abc:USER:" + Long.MAX_VALUE + ":alice"))).isEmpty();
+        assertThat(service.verify(signed("7:USER:soon:alice"))).isEmpty();
+    }
+
+    /**
+     * 테스트용: 같은 secret 으로 임의 payload 서명
+     */
+    private static String signed(String payload) throws Exception {
+        javax.crypto.Mac mac = javax.crypto.Mac.getInstance("HmacSHA256");
+        mac.init(new javax.crypto.spec.SecretKeySpec(
+                SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+
+        return encode(payload) + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+}
@@ -0,0 +1,217 @@
+package com.stroke.omok.websocket.lobby;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LobbyRoomDirectoryTest {
+
+    private final LobbyRoomDirectory directory = new LobbyRoomDirectory();
+
+    private static LobbyRoomDto room(long roomId, LobbyRoomStatus status) {
+        int players = status == LobbyRoomStatus.OPEN ? 1 : 2;
+        return new LobbyRoomDto(roomId, "room" + roomId, players, 2, status);
+    }
+
+    // ---------------- 병합 ----------------
+
+    @Test
+    void severalUpdatesKeepFirstBeforeAndLastAfter() {
+        directory.put(room(1, LobbyRoomStatus.OPEN));
+        directory.drainChanges();
+
+        directory.put(room(1, LobbyRoomStatus.FULL));
+        directory.put(room(1, LobbyRoomStatus.IN_PROGRESS));
+
+        assertThat(directory.drainChanges()).singleElement().satisfies(change -> {
+            assertThat(change.before().getStatus()).isEqualTo(LobbyRoomStatus.OPEN);
+            assertThat(change.after().getStatus()).isEqualTo(LobbyRoomStatus.IN_PROGRESS);
+        });
+    }
+
+    @Test
+    void createThenRemoveInOneTickSendsNothing() {
+        directory.put(room(1, LobbyRoomStatus.OPEN));
+        directory.put(room(1, LobbyRoomStatus.FULL));
+        directory.remove(1L);
+
+        assertThat(directory.drainChanges()).isEmpty();
+    }
+
+    @Test
+    void removeThenRecreateInOneTickIsAnUpdate() {
+        directory.put(room(1, LobbyRoomStatus.OPEN));
+        directory.drainChanges();
+
+        directory.remove(1L);
+        directory.put(room(1, LobbyRoomStatus.OPEN));
+
+        assertThat(directory.drainChanges()).singleElement().satisfies(change -> {
+            assertThat(change.before()).isNotNull();
+            assertThat(change.after()).isNotNull();
+        });
+    }
+
+    @Test
+    void removingUnknownRoomRecordsNothing() {
+        directory.remove(42L);
+
+        assertThat(directory.drainChanges()).isEmpty();
+    }
+
+    @Test
+    void snapshotFollowsStatusPartitions() {
+        directory.put(room(1, LobbyRoomStatus.OPEN));
+        directory.put(room(2, LobbyRoomStatus.FULL));
+        directory.put(room(3, LobbyRoomStatus.IN_PROGRESS));
+        directory.put(room(2, LobbyRoomStatus.OPEN));
+
+        assertThat(directory.snapshot(LobbyRoomFilter.JOINABLE))
+                .extracting(LobbyRoomDto::getRoomId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(directory.snapshot(LobbyRoomFilter.IN_PROGRESS))
+                .extracting(LobbyRoomDto::getRoomId).containsExactly(3L);
+        assertThat(directory.snapshot(LobbyRoomFilter.ALL)).hasSize(3);
+    }
+
+    // ---------------- 필터별 delta ----------------
+
+    @Test
+    void openToFullIsRemovedForJoinableAndUpdatedForAll() {
+        List<LobbyRoomDirectory.Change> changes = List.of(new LobbyRoomDirectory.Change(
+                room(1, LobbyRoomStatus.OPEN), room(1, LobbyRoomStatus.FULL)));
+
+        LobbyRoomDirectory.Delta joinable = LobbyRoomDirectory.delta(changes, LobbyRoomFilter.JOINABLE);
+        LobbyRoomDirectory.Delta all = LobbyRoomDirectory.delta(changes, LobbyRoomFilter.ALL);
+
+        assertThat(joinable.removed()).containsExactly(1L);
+        assertThat(joinable.added()).isEmpty();
+        assertThat(joinable.updated()).isEmpty();
+
+        assertThat(all.updated()).extracting(LobbyRoomDto::getRoomId).containsExactly(1L);
+        assertThat(all.added()).isEmpty();
+        assertThat(all.removed()).isEmpty();
+
+        // 보이는 변경 없음
+        assertThat(LobbyRoomDirectory.delta(changes, LobbyRoomFilter.IN_PROGRESS)).isNull();
+    }
+
+    @Test
+    void fullToInProgressIsAddedForInProgress() {
+        List<LobbyRoomDirectory.Change> changes = List.of(new LobbyRoomDirectory.Change(
+                room(1, LobbyRoomStatus.FULL), room(1, LobbyRoomStatus.IN_PROGRESS)));
+
+        assertThat(LobbyRoomDirectory.delta(changes, LobbyRoomFilter.IN_PROGRESS).added())
+                .extracting(LobbyRoomDto::getRoomId).containsExactly(1L);
+        assertThat(LobbyRoomDirectory.delta(changes, LobbyRoomFilter.JOINABLE)).isNull();
+    }
+
+    @Test
+    void createdAndDeletedRoomsMapToAddedAndRemoved() {
+        List<LobbyRoomDirectory.Change> changes = List.of(
+                new LobbyRoomDirectory.Change(null, room(1, LobbyRoomStatus.OPEN)),
+                new LobbyRoomDirectory.Change(room(2, LobbyRoomStatus.OPEN), null));
+
+        LobbyRoomDirectory.Delta joinable = LobbyRoomDirectory.delta(changes, LobbyRoomFilter.JOINABLE);
+
+        assertThat(joinable.added()).extracting(LobbyRoomDto::getRoomId).containsExactly(1L);
+        assertThat(joinable.removed()).containsExactly(2L);
+    }
+
+    // ---------------- 구독 ----------------
+
+    @Test
+    void subscriptionDrainsPendingChangesWithSnapshot() {
+        directory.put(room(1, LobbyRoomStatus.OPEN));
+
+        LobbyRoomDirectory.Subscription subscription =
+                directory.drainAndSnapshot(LobbyRoomFilter.JOINABLE);
+
+        assertThat(subscription.changes()).hasSize(1);
+        assertThat(subscription.rooms()).extracting(LobbyRoomDto::getRoomId).containsExactly(1L);
+        assertThat(directory.drainChanges()).isEmpty();
+    }
+
+    @Test
+    void roomSeenInSnapshotIsAlwaysRemovedLater() {
+        // 스냅샷 직전에 생성된 방이 같은 tick 안에서 삭제되어도 삭제가 전송되어야 함
+        directory.put(room(1, LobbyRoomStatus.OPEN));
+
+        LobbyRoomDirectory.Subscription subscription =
+                directory.drainAndSnapshot(LobbyRoomFilter.JOINABLE);
+        assertThat(subscription.rooms()).hasSize(1);
+
+        directory.remove(1L);
+
+        LobbyRoomDirectory.Delta delta =
+                LobbyRoomDirectory.delta(directory.drainChanges(), LobbyRoomFilter.JOINABLE);
+
+        assertThat(delta.removed()).containsExactly(1L);
+    }
+
+    @Test
+    void snapshotPlusLaterDeltasConvergesToCurrentState() {
+        Random random = new Random(31);
+
+        for (LobbyRoomFilter filter : LobbyRoomFilter.values()) {
+            LobbyRoomDirectory dir = new LobbyRoomDirectory();
+            Map<Long, LobbyRoomDto> client = null;
+
+            for (int step = 0; step < 5_000; step++) {
+                int op = random.nextInt(10);
+                long roomId = random.nextInt(20);
+
+                if (op < 6) {
+                    LobbyRoomStatus status = LobbyRoomStatus.values()[random.nextInt(3)];
+                    dir.put(room(roomId, status));
+                } else if (op < 8) {
+                    dir.remove(roomId);
+                } else if (op == 8) {
+                    // tick
+                    apply(client, dir.drainChanges(), filter);
+                } else if (client == null || random.nextInt(10) == 0) {
+                    // (재)구독: 남은 변경분은 기존 구독 상태에 먼저 반영한 뒤 스냅샷으로 교체
+                    LobbyRoomDirectory.Subscription subscription = dir.drainAndSnapshot(filter);
+                    apply(client, subscription.changes(), filter);
+
+                    client = new HashMap<>();
+                    for (LobbyRoomDto r : subscription.rooms()) {
+                        client.put(r.getRoomId(), r);
+                    }
+                }
+            }
+
+            apply(client, dir.drainChanges(), filter);
+
+            assertThat(client).isNotNull();
+            assertThat(client.keySet()).containsExactlyInAnyOrderElementsOf(
+                    dir.snapshot(filter).stream().map(LobbyRoomDto::getRoomId).toList());
+        }
+    }
+
+    /**
+     * 클라이언트 규칙: added / updated 는 upsert, removed 는 삭제
+     */
+    private static void apply(Map<Long, LobbyRoomDto> client,
+                              List<LobbyRoomDirectory.Change> changes,
+                              LobbyRoomFilter filter) {
+
+        if (client == null) {
+            return;
+        }
+
+        LobbyRoomDirectory.Delta delta = LobbyRoomDirectory.delta(changes, filter);
+
+        if (delta == null) {
+            return;
+        }
+
+        delta.added().forEach(r -> client.put(r.getRoomId(), r));
+        delta.updated().forEach(r -> client.put(r.getRoomId(), r));
+        delta.removed().forEach(client::remove);
+    }
+}